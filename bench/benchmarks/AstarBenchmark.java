@@ -0,0 +1,108 @@
+package benchmarks;
+
+import A_etoile.Astar;
+import A_etoile.ComposantesConnexes;
+import objets.Carte;
+import objets.Case;
+import objets.Robot;
+import objets.Robot.typeRobot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import simulation.DonneesSimulation;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static io.LecteurDonnees.creeDonnees;
+
+/**
+ * Recherche de plus courts chemins sur les cartes fournies, pour chaque type de robot et chaque moteur.
+ * Chaque opération résout le même lot de requêtes départ/arrivée, tirées au hasard parmi les cases
+ * d'une même composante connexe afin qu'un chemin existe toujours.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AstarBenchmark {
+
+    /**
+     * Nombre de requêtes résolues par opération.
+     */
+    private static final int NB_REQUETES = 16;
+
+    @Param({"carteSujet", "desertOfDeath-20x20", "mushroomOfHell-20x20", "spiralOfMadness-50x50"})
+    public String carte;
+
+    @Param({"DRONE", "ROUES", "PATTES", "CHENILLES"})
+    public String type;
+
+    @Param({"INDEXE", "CLASSIQUE", "HIERARCHIQUE", "BIDIRECTIONNEL"})
+    public String moteur;
+
+    private Astar.Moteur moteurRecherche;
+    private Carte plan;
+    private Robot robot;
+    private Case[] departs;
+    private Case[] arrivees;
+
+    @Setup
+    public void prepare() throws Exception {
+        this.moteurRecherche = Astar.Moteur.valueOf(this.moteur);
+        DonneesSimulation donnees = creeDonnees("cartes/" + this.carte + ".map");
+        this.plan = donnees.getCarte();
+        typeRobot typeRobot = Robot.typeRobot.valueOf(this.type);
+
+        // Les requêtes sont tirées dans la plus grande composante connexe du type de robot.
+        ComposantesConnexes composantes = new ComposantesConnexes(this.plan, typeRobot);
+        int nbCases = this.plan.getNbLignes() * this.plan.getNbColonnes();
+        int[] tailles = new int[composantes.getNbComposantes()];
+        for (int i = 0; i < nbCases; i++) {
+            if (composantes.getEtiquette(i) >= 0) {
+                tailles[composantes.getEtiquette(i)]++;
+            }
+        }
+        int plusGrande = 0;
+        for (int k = 1; k < tailles.length; k++) {
+            if (tailles[k] > tailles[plusGrande]) {
+                plusGrande = k;
+            }
+        }
+        ArrayList<Case> cases = new ArrayList<>();
+        for (int i = 0; i < nbCases; i++) {
+            if (composantes.getEtiquette(i) == plusGrande) {
+                cases.add(this.plan.getCase(i / this.plan.getNbColonnes(), i % this.plan.getNbColonnes()));
+            }
+        }
+
+        Random aleatoire = new Random(42);
+        this.departs = new Case[NB_REQUETES];
+        this.arrivees = new Case[NB_REQUETES];
+        for (int k = 0; k < NB_REQUETES; k++) {
+            this.departs[k] = cases.get(aleatoire.nextInt(cases.size()));
+            this.arrivees[k] = cases.get(aleatoire.nextInt(cases.size()));
+        }
+        this.robot = Scenarios.robot(typeRobot, this.departs[0]);
+    }
+
+    @Benchmark
+    public void plusCourtChemin(Blackhole trou) {
+        for (int k = 0; k < NB_REQUETES; k++) {
+            this.robot.deplaceRobot(this.departs[k]);
+            trou.consume(Astar.plusCourtChemin(this.moteurRecherche, this.plan, this.robot, this.arrivees[k]));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import simulation.ContexteSimulation;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coût d'un appel complet au chef pompier sur des scénarios générés de taille croissante.
+ * L'attribution modifie l'état des robots et des incendies : un nouveau contexte, toujours
+ * généré avec la même graine, est donc préparé avant chaque appel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AttributionBenchmark {
+
+    @Param({"20", "50", "100"})
+    public int taille;
+
+    @Param({"simple", "avancee", "reflechie", "optimale"})
+    public String strategie;
+
+    private ContexteSimulation contexte;
+
+    @Setup(Level.Invocation)
+    public void prepare() {
+        this.contexte = Scenarios.contexteGenere(this.taille, 42L, this.strategie);
+    }
+
+    @Benchmark
+    public ContexteSimulation attribue() {
+        this.contexte.attribue();
+        return this.contexte;
+    }
+}
@@ -0,0 +1,77 @@
+package benchmarks;
+
+import affichage.RenduVide;
+import evenements.PropagationIncendie;
+import objets.Carte;
+import objets.Case.natureTerrain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import simulation.ContexteSimulation;
+import simulation.DonneesSimulation;
+import simulation.SimulateurBatch;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Débit du calendrier des événements : ajout de nbEvenements événements à des dates aléatoires
+ * (avec des dates répétées), puis exécution de la simulation jusqu'à épuisement du calendrier.
+ * Les événements sont des propagations d'incendie sur une carte sans incendie, dont l'exécution
+ * est quasiment vide : seul le coût du calendrier est mesuré.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalendrierBenchmark {
+
+    @Param({"1000", "100000"})
+    public int nbEvenements;
+
+    private DonneesSimulation donnees;
+    private RenduVide rendu;
+    private long[] dates;
+
+    @Setup
+    public void prepare() {
+        this.donnees = new DonneesSimulation();
+        Carte carte = new Carte(1, 1, 10000);
+        carte.setNatureTerrain(0, 0, natureTerrain.TERRAIN_LIBRE);
+        this.donnees.setCarte(carte);
+        this.rendu = new RenduVide(SimulateurBatch.TAILLE_FENETRE, SimulateurBatch.TAILLE_FENETRE);
+        Random aleatoire = new Random(42);
+        this.dates = new long[this.nbEvenements];
+        for (int i = 0; i < this.nbEvenements; i++) {
+            this.dates[i] = aleatoire.nextInt(this.nbEvenements);
+        }
+    }
+
+    @Benchmark
+    public ContexteSimulation ajouteEvenement() {
+        ContexteSimulation contexte = new ContexteSimulation(this.donnees, this.rendu, null);
+        for (long date : this.dates) {
+            contexte.ajouteEvenement(new PropagationIncendie(date));
+        }
+        return contexte;
+    }
+
+    @Benchmark
+    public long ajouteEtExecute() {
+        ContexteSimulation contexte = ajouteEvenement();
+        while (!contexte.simulationTerminee()) {
+            contexte.next();
+        }
+        return contexte.getNbEvenementsExecutes();
+    }
+}
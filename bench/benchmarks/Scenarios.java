@@ -0,0 +1,81 @@
+package benchmarks;
+
+import affichage.RenduVide;
+import io.GenerateurCarte;
+import objets.Case;
+import objets.Drone;
+import objets.Robot;
+import objets.Robot.typeRobot;
+import objets.RobotAChenilles;
+import objets.RobotAPattes;
+import objets.RobotARoue;
+import simulation.ContexteSimulation;
+import simulation.DonneesSimulation;
+import simulation.SimulateurBatch;
+
+/**
+ * Construction des données utilisées par les benchmarks : robots d'un type donné et
+ * scénarios générés aléatoirement, à partir d'une graine fixe pour être reproductibles.
+ */
+public class Scenarios {
+
+    /**
+     * Cartes fournies avec le projet, sans extension.
+     */
+    public static final String[] CARTES = {
+            "carteSujet", "desertOfDeath-20x20", "mushroomOfHell-20x20", "spiralOfMadness-50x50"
+    };
+
+    /**
+     * Crée un robot d'un type donné sur une case.
+     *
+     * @param type Le type du robot.
+     * @param position La case initiale du robot.
+     * @return Le robot créé.
+     */
+    public static Robot robot(typeRobot type, Case position) {
+        switch (type) {
+            case DRONE:
+                return new Drone(position);
+            case ROUES:
+                return new RobotARoue(position);
+            case PATTES:
+                return new RobotAPattes(position);
+            case CHENILLES:
+                return new RobotAChenilles(position);
+            default:
+                throw new IllegalArgumentException("Type de robot inconnu : " + type);
+        }
+    }
+
+    /**
+     * Génère un scénario carré avec {@link GenerateurCarte} : un incendie par ligne
+     * et un robot toutes les deux lignes, répartis entre les types.
+     *
+     * @param taille Le nombre de lignes et de colonnes de la carte.
+     * @param graine La graine du générateur.
+     * @return Les données du scénario.
+     */
+    public static DonneesSimulation genere(int taille, long graine) {
+        GenerateurCarte generateur = new GenerateurCarte(taille, taille, graine);
+        generateur.setTailleCases(10000);
+        generateur.setProportions(60, 15, 10, 5);
+        generateur.setIncendies(taille, 5000, 20000);
+        int nbRobots = taille / 2;
+        generateur.setFlotte((nbRobots + 3) / 4, (nbRobots + 2) / 4, (nbRobots + 1) / 4, nbRobots / 4);
+        return generateur.genere();
+    }
+
+    /**
+     * Crée un contexte sans affichage autour d'un scénario généré.
+     *
+     * @param taille Le nombre de lignes et de colonnes de la carte.
+     * @param graine La graine du générateur.
+     * @param attribution Le type d'attribution du chef pompier.
+     * @return Le contexte de simulation.
+     */
+    public static ContexteSimulation contexteGenere(int taille, long graine, String attribution) {
+        return new ContexteSimulation(genere(taille, graine),
+                new RenduVide(SimulateurBatch.TAILLE_FENETRE, SimulateurBatch.TAILLE_FENETRE), attribution);
+    }
+}
@@ -16,6 +16,106 @@ import objets.Robot.typeRobot;
  */
 public class Astar {
 
+    /**
+     * Moteurs de recherche de chemin disponibles.
+     */
+    public enum Moteur {
+        /** Recherche sur des objets {@link Cell}, avec listes ouverte et fermée classiques. */
+        CLASSIQUE,
+        /** Recherche sur les indices de cases avec tableaux primitifs ({@link AstarIndexe}). */
+        INDEXE,
+        /** Recherche hiérarchique par groupes de cases ({@link GrapheHierarchique}), non optimale au-delà des groupes voisins. */
+        HIERARCHIQUE,
+        /** Recherche menée depuis les deux extrémités à la fois ({@link AstarBidirectionnel}). */
+        BIDIRECTIONNEL
+    }
+
+    /**
+     * Moteur utilisé par une simulation qui n'en choisit pas d'autre.
+     */
+    public static final Moteur MOTEUR_PAR_DEFAUT = Moteur.INDEXE;
+
+    /**
+     * Indique, pour chaque type de robot (par ordinal), si tous ses déplacements ont le même coût.
+     */
+    private static final boolean[] COUT_UNIFORME = new boolean[typeRobot.values().length];
+
+    static {
+        for (typeRobot type : typeRobot.values()) {
+            int cout = -1;
+            boolean uniforme = true;
+            for (natureTerrain terrain : natureTerrain.values()) {
+                if (Carte.estAccessible(type, terrain)) {
+                    int poids = poidsDeplacement(type, terrain);
+                    uniforme &= cout < 0 || poids == cout;
+                    cout = poids;
+                }
+            }
+            COUT_UNIFORME[type.ordinal()] = uniforme;
+        }
+    }
+
+    /**
+     * Indique si tous les déplacements d'un type de robot coûtent autant, quel que soit le terrain
+     * praticable quitté. C'est le cas des robots à roues et des drones.
+     *
+     * @param type Le type de robot.
+     * @return true si le coût de déplacement du type est uniforme.
+     */
+    static public boolean coutUniforme(typeRobot type) {
+        return COUT_UNIFORME[type.ordinal()];
+    }
+
+    /**
+     * Recherche le plus court chemin avec un moteur donné.
+     * Avec le moteur indexé, les types de robots à coût uniforme utilisent la recherche par sauts
+     * ({@link RecherchePointsDeSaut}), qui ouvre bien moins de cases sur les terrains dégagés.
+     * Le moteur hiérarchique construit au premier appel un graphe abstrait de la carte par type de robot,
+     * puis répond en un temps qui dépend peu de la taille de la carte, au prix de chemins parfois plus longs ;
+     * entre deux cases de groupes identiques ou voisins, ou si le robot se trouve sur une case qui lui est
+     * inaccessible, il se rabat sur la recherche exacte du moteur indexé.
+     * Le moteur bidirectionnel mène la recherche depuis les deux extrémités et reste optimal.
+     *
+     * @param moteur Le moteur de recherche à utiliser.
+     * @param carte La carte sur laquelle naviguer.
+     * @param robot Le robot effectuant la navigation.
+     * @param destination La case de destination.
+     * @return Une liste de directions représentant le chemin à suivre, ou null si aucun chemin n'est trouvé.
+     */
+    static public LinkedList<Direction> plusCourtChemin(Moteur moteur, Carte carte, Robot robot, Case destination) {
+        switch (moteur) {
+            case CLASSIQUE:
+                return AStarSearch(carte, robot, destination);
+            case BIDIRECTIONNEL:
+                return AstarBidirectionnel.AStarSearch(carte, robot, destination);
+            case HIERARCHIQUE:
+                if (!robot.caseAccessible(destination)) {
+                    return null;
+                }
+                GrapheHierarchique graphe = GrapheHierarchique.pour(carte, robot.getTypeRobot());
+                int depart = carte.getIndice(robot.getCaseRobot());
+                int arrivee = carte.getIndice(destination);
+                // Le graphe ignore les cases inaccessibles, y compris celle où le robot se trouverait.
+                if (graphe.estProche(depart, arrivee) || !robot.caseAccessible(robot.getCaseRobot())) {
+                    return rechercheIndexee(carte, robot, destination);
+                }
+                return graphe.plusCourtChemin(depart, arrivee);
+            case INDEXE:
+            default:
+                return rechercheIndexee(carte, robot, destination);
+        }
+    }
+
+    /**
+     * Recherche exacte du moteur indexé : par sauts pour les types à coût uniforme, A* indexé sinon.
+     */
+    static private LinkedList<Direction> rechercheIndexee(Carte carte, Robot robot, Case destination) {
+        if (coutUniforme(robot.getTypeRobot())) {
+            return RecherchePointsDeSaut.AStarSearch(carte, robot, destination);
+        }
+        return AstarIndexe.AStarSearch(carte, robot, destination);
+    }
+
     /**
      * Calcule la distance euclidienne entre deux cases.
      *
@@ -212,12 +312,22 @@ public class Astar {
      * @return Le coût de déplacement.
      */
     static public int poidsDeplacement(Case caseCourante, Robot robot) {
-        Case.natureTerrain terrain = caseCourante.getNature();
-        if (robot.getTypeRobot() == typeRobot.PATTES) {
+        return poidsDeplacement(robot.getTypeRobot(), caseCourante.getNature());
+    }
+
+    /**
+     * Calcule le coût de déplacement depuis un terrain pour un type de robot.
+     *
+     * @param type Le type du robot effectuant le déplacement.
+     * @param terrain La nature du terrain de la case quittée.
+     * @return Le coût de déplacement.
+     */
+    static public int poidsDeplacement(typeRobot type, natureTerrain terrain) {
+        if (type == typeRobot.PATTES) {
             if (terrain == natureTerrain.ROCHE) {
                 return 3;
             }
-        } else if (robot.getTypeRobot() == typeRobot.CHENILLES) {
+        } else if (type == typeRobot.CHENILLES) {
             if (terrain == natureTerrain.FORET) {
                 return 2;
             }
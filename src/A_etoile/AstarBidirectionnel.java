@@ -0,0 +1,190 @@
+package A_etoile;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedList;
+
+import objets.Carte;
+import objets.Carte.Direction;
+import objets.Case;
+import objets.Robot;
+import objets.Robot.typeRobot;
+
+/**
+ * Variante bidirectionnelle de {@link AstarIndexe} : une recherche avance depuis la case du robot vers la
+ * destination, une autre remonte depuis la destination vers la case du robot, et l'on développe à chaque
+ * étape le côté dont la liste ouverte est la plus petite.
+ * <p>
+ * Les coûts sont orientés : un pas coûte le poids du terrain quitté. La recherche arrière, qui passe
+ * d'une case x à une case y voisine, parcourt donc le pas y → x et lui affecte le poids de y.
+ * <p>
+ * Chaque fois qu'une case reçoit un coût dans un sens alors qu'elle a déjà été atteinte dans l'autre,
+ * le chemin passant par elle devient le meilleur candidat s'il est plus court. Les deux heuristiques
+ * (distance euclidienne vers la destination, et vers le départ pour la recherche arrière) sont cohérentes ;
+ * tout chemin non encore découvert coûte donc au moins la plus petite clé de chacune des deux listes
+ * ouvertes. La recherche s'arrête dès que le meilleur candidat ne dépasse pas la plus grande de ces deux
+ * clés : le chemin obtenu est alors optimal. Deux élagages limitent le travail en attendant : une case
+ * dont la clé atteint le coût du meilleur candidat n'entre pas dans la liste ouverte, et une case déjà
+ * fermée par l'autre recherche n'est pas développée.
+ * <p>
+ * Avec l'heuristique euclidienne, les deux recherches couvrent souvent ensemble autant de cases qu'une
+ * recherche simple ; ce moteur reste donc une option, le moteur indexé restant celui par défaut.
+ */
+public class AstarBidirectionnel {
+
+    /**
+     * Recherche le plus court chemin en menant une recherche A* depuis chaque extrémité.
+     *
+     * @param carte La carte sur laquelle naviguer.
+     * @param robot Le robot effectuant la navigation.
+     * @param destination La case de destination.
+     * @return Une liste de directions représentant le chemin à suivre, ou null si aucun chemin n'est trouvé.
+     */
+    static public LinkedList<Direction> AStarSearch(Carte carte, Robot robot, Case destination) {
+        if (!robot.caseAccessible(destination)) {
+            return null;
+        }
+        return new Recherche(carte, robot.getTypeRobot(), carte.getIndice(robot.getCaseRobot()),
+                carte.getIndice(destination)).cherche();
+    }
+
+    /**
+     * État d'une recherche dans un sens.
+     */
+    private static final class Sens {
+        final boolean avant; // true pour la recherche depuis le départ
+        final double[] g; // Coût connu depuis le départ (en avant) ou jusqu'à l'arrivée (en arrière)
+        final int[] parent; // Case précédente (en avant) ou suivante (en arrière) sur le chemin
+        final BitSet listeFermee;
+        final TasIndexe listeOuverte;
+        final int ligneCible; // Case visée par l'heuristique
+        final int colonneCible;
+
+        Sens(boolean avant, int nbCases, int origine, int cible, int nbColonnes) {
+            this.avant = avant;
+            this.g = new double[nbCases];
+            this.parent = new int[nbCases];
+            Arrays.fill(this.g, Double.POSITIVE_INFINITY);
+            this.listeFermee = new BitSet(nbCases);
+            this.listeOuverte = new TasIndexe(nbCases);
+            this.ligneCible = cible / nbColonnes;
+            this.colonneCible = cible % nbColonnes;
+            this.g[origine] = 0;
+            this.parent[origine] = -1;
+            this.listeOuverte.ajoute(origine, AstarIndexe.heuristique(origine, nbColonnes, this.ligneCible, this.colonneCible));
+        }
+    }
+
+    /**
+     * Recherche entre deux cases pour un type de robot.
+     */
+    private static final class Recherche {
+
+        private final Carte carte;
+        private final typeRobot type;
+        private final int nbLignes;
+        private final int nbColonnes;
+        private final int depart;
+        private final int arrivee;
+        private final Sens avant;
+        private final Sens arriere;
+        private double meilleurCout = Double.POSITIVE_INFINITY; // Coût du meilleur chemin trouvé
+        private int jonction = -1; // Case où ce chemin relie les deux recherches
+
+        Recherche(Carte carte, typeRobot type, int depart, int arrivee) {
+            this.carte = carte;
+            this.type = type;
+            this.nbLignes = carte.getNbLignes();
+            this.nbColonnes = carte.getNbColonnes();
+            this.depart = depart;
+            this.arrivee = arrivee;
+            int nbCases = this.nbLignes * this.nbColonnes;
+            this.avant = new Sens(true, nbCases, depart, arrivee, this.nbColonnes);
+            this.arriere = new Sens(false, nbCases, arrivee, depart, this.nbColonnes);
+        }
+
+        LinkedList<Direction> cherche() {
+            if (this.depart == this.arrivee) {
+                return new LinkedList<>();
+            }
+            while (!this.avant.listeOuverte.estVide() && !this.arriere.listeOuverte.estVide()) {
+                if (this.meilleurCout <= Math.max(this.avant.listeOuverte.cleMin(), this.arriere.listeOuverte.cleMin())) {
+                    break;
+                }
+                if (this.avant.listeOuverte.getTaille() <= this.arriere.listeOuverte.getTaille()) {
+                    etend(this.avant, this.arriere);
+                } else {
+                    etend(this.arriere, this.avant);
+                }
+            }
+            // Si une liste ouverte s'est vidée, son côté a été entièrement exploré : le meilleur
+            // candidat, s'il existe, est optimal.
+            return this.jonction < 0 ? null : reconstruitChemin();
+        }
+
+        /**
+         * Développe la case de plus petite clé d'un sens de recherche.
+         */
+        private void etend(Sens sens, Sens autre) {
+            int courant = sens.listeOuverte.extraitMin();
+            sens.listeFermee.set(courant);
+            if (autre.listeFermee.get(courant)) {
+                // Le meilleur chemin passant par cette case est déjà connu, l'autre recherche l'ayant fermée.
+                return;
+            }
+            int ligne = courant / this.nbColonnes;
+            int colonne = courant % this.nbColonnes;
+            double poidsCourant = Astar.poidsDeplacement(this.type, this.carte.getNatureTerrain(courant));
+
+            for (int d = 0; d < 4; d++) {
+                int ligneVoisin = ligne + AstarIndexe.DECALAGE_LIGNE[d];
+                int colonneVoisin = colonne + AstarIndexe.DECALAGE_COLONNE[d];
+                if (ligneVoisin < 0 || ligneVoisin >= this.nbLignes || colonneVoisin < 0 || colonneVoisin >= this.nbColonnes) {
+                    continue;
+                }
+                int voisin = ligneVoisin * this.nbColonnes + colonneVoisin;
+                if (sens.listeFermee.get(voisin)) {
+                    continue;
+                }
+                // La case du robot est toujours praticable pour lui, quelle que soit sa nature.
+                if (!Carte.estAccessible(this.type, this.carte.getNatureTerrain(voisin)) && voisin != this.depart) {
+                    continue;
+                }
+                double tentativeG = sens.g[courant] + (sens.avant ? poidsCourant
+                        : Astar.poidsDeplacement(this.type, this.carte.getNatureTerrain(voisin)));
+                if (tentativeG >= sens.g[voisin]) {
+                    continue;
+                }
+                sens.g[voisin] = tentativeG;
+                sens.parent[voisin] = courant;
+                double cout = tentativeG + autre.g[voisin];
+                if (cout < this.meilleurCout) {
+                    this.meilleurCout = cout;
+                    this.jonction = voisin;
+                }
+                double f = tentativeG + AstarIndexe.heuristique(voisin, this.nbColonnes, sens.ligneCible, sens.colonneCible);
+                if (f >= this.meilleurCout) {
+                    // Aucun chemin passant par cette case ne peut battre le meilleur candidat.
+                    continue;
+                }
+                if (sens.listeOuverte.contient(voisin)) {
+                    sens.listeOuverte.diminue(voisin, f);
+                } else {
+                    sens.listeOuverte.ajoute(voisin, f);
+                }
+            }
+        }
+
+        /**
+         * Reconstruit le chemin du départ à la jonction par la recherche avant,
+         * puis de la jonction à l'arrivée par la recherche arrière.
+         */
+        private LinkedList<Direction> reconstruitChemin() {
+            LinkedList<Direction> chemin = AstarIndexe.reconstruitChemin(this.avant.parent, this.jonction, this.nbColonnes);
+            for (int courant = this.jonction; this.arriere.parent[courant] != -1; courant = this.arriere.parent[courant]) {
+                chemin.addLast(AstarIndexe.directionEntre(courant, this.arriere.parent[courant], this.nbColonnes));
+            }
+            return chemin;
+        }
+    }
+}
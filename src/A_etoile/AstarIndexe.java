@@ -0,0 +1,150 @@
+package A_etoile;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedList;
+
+import objets.Carte;
+import objets.Carte.Direction;
+import objets.Case;
+import objets.Case.natureTerrain;
+import objets.Robot;
+import objets.Robot.typeRobot;
+
+/**
+ * Variante de l'algorithme A* travaillant sur les indices des cases (ligne * nbColonnes + colonne).
+ * Les coûts et les parents sont rangés dans des tableaux primitifs, la liste ouverte est un
+ * {@link TasIndexe} permettant de diminuer une clé, et la liste fermée est un {@link BitSet}.
+ * Chaque expansion coûte ainsi O(log n) au lieu de O(n) pour {@link Astar#AStarSearch}.
+ */
+public class AstarIndexe {
+
+    /**
+     * Décalages en ligne des quatre voisins, dans l'ordre NORD, SUD, EST, OUEST.
+     */
+    static final int[] DECALAGE_LIGNE = {-1, 1, 0, 0};
+
+    /**
+     * Décalages en colonne des quatre voisins, dans l'ordre NORD, SUD, EST, OUEST.
+     */
+    static final int[] DECALAGE_COLONNE = {0, 0, 1, -1};
+
+    /**
+     * Recherche le plus court chemin en utilisant l'algorithme A* sur les indices de cases.
+     *
+     * @param carte La carte sur laquelle naviguer.
+     * @param robot Le robot effectuant la navigation.
+     * @param destination La case de destination.
+     * @return Une liste de directions représentant le chemin à suivre, ou null si aucun chemin n'est trouvé.
+     */
+    static public LinkedList<Direction> AStarSearch(Carte carte, Robot robot, Case destination) {
+        if (!robot.caseAccessible(destination)) {
+            return null;
+        }
+        typeRobot type = robot.getTypeRobot();
+        int nbLignes = carte.getNbLignes();
+        int nbColonnes = carte.getNbColonnes();
+        int nbCases = nbLignes * nbColonnes;
+        int depart = carte.getIndice(robot.getCaseRobot());
+        int arrivee = carte.getIndice(destination);
+        int ligneArrivee = destination.getLigne();
+        int colonneArrivee = destination.getColonne();
+
+        double[] g = new double[nbCases];
+        int[] parent = new int[nbCases];
+        Arrays.fill(g, Double.POSITIVE_INFINITY);
+        BitSet listeFermee = new BitSet(nbCases);
+        TasIndexe listeOuverte = new TasIndexe(nbCases);
+
+        g[depart] = 0;
+        parent[depart] = -1;
+        listeOuverte.ajoute(depart, heuristique(depart, nbColonnes, ligneArrivee, colonneArrivee));
+
+        while (!listeOuverte.estVide()) {
+            int courant = listeOuverte.extraitMin();
+            if (courant == arrivee) {
+                return reconstruitChemin(parent, arrivee, nbColonnes);
+            }
+            listeFermee.set(courant);
+
+            int ligne = courant / nbColonnes;
+            int colonne = courant % nbColonnes;
+            double tentativeG = g[courant] + Astar.poidsDeplacement(type, carte.getNatureTerrain(courant));
+
+            for (int d = 0; d < 4; d++) {
+                int ligneVoisin = ligne + DECALAGE_LIGNE[d];
+                int colonneVoisin = colonne + DECALAGE_COLONNE[d];
+                if (ligneVoisin < 0 || ligneVoisin >= nbLignes || colonneVoisin < 0 || colonneVoisin >= nbColonnes) {
+                    continue;
+                }
+                int voisin = ligneVoisin * nbColonnes + colonneVoisin;
+                if (listeFermee.get(voisin)) {
+                    continue;
+                }
+                natureTerrain terrain = carte.getNatureTerrain(voisin);
+                if (!Carte.estAccessible(type, terrain) || tentativeG >= g[voisin]) {
+                    continue;
+                }
+                g[voisin] = tentativeG;
+                parent[voisin] = courant;
+                double f = tentativeG + heuristique(voisin, nbColonnes, ligneArrivee, colonneArrivee);
+                if (listeOuverte.contient(voisin)) {
+                    listeOuverte.diminue(voisin, f);
+                } else {
+                    listeOuverte.ajoute(voisin, f);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Calcule la distance euclidienne entre une case, donnée par son indice, et la destination.
+     *
+     * @param indice L'indice de la case.
+     * @param nbColonnes Le nombre de colonnes de la carte.
+     * @param ligneArrivee La ligne de la destination.
+     * @param colonneArrivee La colonne de la destination.
+     * @return La distance euclidienne en nombre de cases.
+     */
+    static double heuristique(int indice, int nbColonnes, int ligneArrivee, int colonneArrivee) {
+        int dl = indice / nbColonnes - ligneArrivee;
+        int dc = indice % nbColonnes - colonneArrivee;
+        return Math.sqrt(dl * dl + dc * dc);
+    }
+
+    /**
+     * Retourne la direction permettant de passer d'une case à une case voisine.
+     *
+     * @param depuis L'indice de la case de départ.
+     * @param vers L'indice de la case voisine.
+     * @param nbColonnes Le nombre de colonnes de la carte.
+     * @return La direction du déplacement.
+     */
+    static public Direction directionEntre(int depuis, int vers, int nbColonnes) {
+        int ligneDepuis = depuis / nbColonnes;
+        int ligneVers = vers / nbColonnes;
+        if (ligneVers == ligneDepuis) {
+            return vers > depuis ? Direction.EST : Direction.OUEST;
+        }
+        return ligneVers > ligneDepuis ? Direction.SUD : Direction.NORD;
+    }
+
+    /**
+     * Reconstruit la liste des directions en remontant les parents depuis l'arrivée.
+     *
+     * @param parent Le tableau des parents (-1 pour le départ).
+     * @param arrivee L'indice de la case d'arrivée.
+     * @param nbColonnes Le nombre de colonnes de la carte.
+     * @return Le chemin en termes de directions.
+     */
+    static LinkedList<Direction> reconstruitChemin(int[] parent, int arrivee, int nbColonnes) {
+        LinkedList<Direction> chemin = new LinkedList<>();
+        int courant = arrivee;
+        while (parent[courant] != -1) {
+            chemin.addFirst(directionEntre(parent[courant], courant, nbColonnes));
+            courant = parent[courant];
+        }
+        return chemin;
+    }
+}
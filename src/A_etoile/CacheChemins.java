@@ -0,0 +1,186 @@
+package A_etoile;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import objets.Carte;
+import objets.Carte.Direction;
+import objets.Case;
+import objets.Robot;
+import objets.Robot.typeRobot;
+
+/**
+ * Cache borné des plus courts chemins d'une carte, indexé par (type de robot, case de départ, case d'arrivée).
+ * <p>
+ * Le terrain étant fixe, le chemin calculé par {@link Astar#plusCourtChemin} ne dépend que de ces trois
+ * valeurs : un robot inactif qui reste sur sa case redemande le même chemin à chaque date où le chef
+ * pompier réattribue les incendies. Les chemins sont conservés sous forme immuable et compacte
+ * ({@link CheminCompact}), y compris l'absence de chemin.
+ * <p>
+ * Le cache est découpé en segments indépendants, chacun géré en LRU (le moins récemment utilisé est
+ * évincé) et protégé par son propre verrou, ce qui permet des accès concurrents. Tous ses chemins sont
+ * calculés avec le même moteur de recherche. Son propriétaire le vide par {@link #invalide()} lorsque
+ * le terrain change.
+ */
+public class CacheChemins {
+
+    /**
+     * Nombre de segments, puissance de 2.
+     */
+    private static final int NB_SEGMENTS = 16;
+
+    /**
+     * Nombre de bits réservés à chaque indice de case dans une clé.
+     */
+    private static final int BITS_INDICE = 29;
+
+    /**
+     * Valeur conservée pour une destination inatteignable, distincte d'un chemin vide.
+     */
+    private static final CheminCompact INATTEIGNABLE = CheminCompact.depuis(new LinkedList<>());
+
+    private final Carte carte;
+    private final Astar.Moteur moteur; // Moteur de recherche des chemins calculés
+    private final Segment[] segments;
+    private final LongAdder succes = new LongAdder(); // Nombre de chemins trouvés dans le cache
+    private final LongAdder echecs = new LongAdder(); // Nombre de chemins calculés
+    private final LongAdder invalidations = new LongAdder(); // Nombre de vidages complets
+
+    /**
+     * Construit un cache vide.
+     *
+     * @param carte    La carte dont les chemins sont conservés.
+     * @param moteur   Le moteur de recherche utilisé pour calculer les chemins.
+     * @param capacite Le nombre maximal de chemins conservés.
+     */
+    public CacheChemins(Carte carte, Astar.Moteur moteur, int capacite) {
+        if (capacite < NB_SEGMENTS) {
+            throw new IllegalArgumentException("La capacité du cache doit être au moins " + NB_SEGMENTS + ".");
+        }
+        if ((long) carte.getNbLignes() * carte.getNbColonnes() > 1L << BITS_INDICE) {
+            throw new IllegalArgumentException("Carte trop grande pour le cache de chemins.");
+        }
+        this.carte = carte;
+        this.moteur = moteur;
+        this.segments = new Segment[NB_SEGMENTS];
+        for (int i = 0; i < NB_SEGMENTS; i++) {
+            this.segments[i] = new Segment(capacite / NB_SEGMENTS);
+        }
+    }
+
+    /**
+     * Retourne le plus court chemin d'un robot vers une case, calculé au besoin.
+     *
+     * @param robot       Le robot, sur sa case de départ.
+     * @param destination La case à atteindre.
+     * @return Le chemin vers la destination, ou null si aucun chemin n'existe.
+     */
+    public CheminCompact chemin(Robot robot, Case destination) {
+        long cle = cle(robot.getTypeRobot(), this.carte.getIndice(robot.getCaseRobot()), this.carte.getIndice(destination));
+        Segment segment = this.segments[(int) (melange(cle) & (NB_SEGMENTS - 1))];
+        CheminCompact chemin;
+        synchronized (segment) {
+            chemin = segment.get(cle);
+        }
+        if (chemin != null) {
+            this.succes.increment();
+        } else {
+            // La recherche se fait hors du verrou : deux fils peuvent calculer le même chemin, sans conséquence.
+            this.echecs.increment();
+            LinkedList<Direction> calcule = Astar.plusCourtChemin(this.moteur, this.carte, robot, destination);
+            chemin = calcule == null ? INATTEIGNABLE : CheminCompact.depuis(calcule);
+            synchronized (segment) {
+                segment.put(cle, chemin);
+            }
+        }
+        return chemin == INATTEIGNABLE ? null : chemin;
+    }
+
+    /**
+     * Vide le cache.
+     */
+    public void invalide() {
+        for (Segment segment : this.segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+        this.invalidations.increment();
+    }
+
+    /**
+     * Retourne le nombre de demandes satisfaites par le cache.
+     *
+     * @return Le nombre de succès.
+     */
+    public long getNbSucces() {
+        return this.succes.sum();
+    }
+
+    /**
+     * Retourne le nombre de demandes ayant nécessité une recherche.
+     *
+     * @return Le nombre d'échecs.
+     */
+    public long getNbEchecs() {
+        return this.echecs.sum();
+    }
+
+    /**
+     * Retourne le nombre de fois où le cache a été vidé.
+     *
+     * @return Le nombre d'invalidations.
+     */
+    public long getNbInvalidations() {
+        return this.invalidations.sum();
+    }
+
+    /**
+     * Retourne le nombre de chemins actuellement conservés.
+     *
+     * @return La taille du cache.
+     */
+    public int getTaille() {
+        int taille = 0;
+        for (Segment segment : this.segments) {
+            synchronized (segment) {
+                taille += segment.size();
+            }
+        }
+        return taille;
+    }
+
+    private static long cle(typeRobot type, int depart, int arrivee) {
+        return ((long) type.ordinal() << (2 * BITS_INDICE)) | ((long) depart << BITS_INDICE) | arrivee;
+    }
+
+    /**
+     * Répartit les clés voisines sur des segments différents.
+     */
+    private static long melange(long cle) {
+        cle ^= cle >>> 33;
+        cle *= 0xff51afd7ed558ccdL;
+        return cle ^ (cle >>> 33);
+    }
+
+    /**
+     * Segment du cache : table en ordre d'accès qui évince son entrée la plus ancienne au-delà de sa capacité.
+     */
+    private static final class Segment extends LinkedHashMap<Long, CheminCompact> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacite;
+
+        Segment(int capacite) {
+            super(16, 0.75f, true);
+            this.capacite = capacite;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, CheminCompact> plusAncienne) {
+            return size() > this.capacite;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package A_etoile;
+
+import java.util.LinkedList;
+
+import objets.Carte;
+import objets.Carte.Direction;
+import objets.Robot.typeRobot;
+
+/**
+ * Champ de distances vers les cases de remplissage d'un type de robot.
+ * Pour chaque case de la carte, le champ mémorise le coût du chemin vers la case de remplissage
+ * la plus proche et la case suivante sur ce chemin. Le terrain ne changeant pas pendant une
+ * simulation, le champ est calculé une fois au chargement par {@link DijkstraMultiSources} ;
+ * trouver le chemin vers l'eau revient ensuite à suivre les cases suivantes, sans aucune recherche.
+ */
+public class ChampRemplissage {
+
+    /**
+     * Type de robot pour lequel le champ est calculé.
+     */
+    private final typeRobot type;
+
+    /**
+     * Nombre de colonnes de la carte, pour convertir les indices en directions.
+     */
+    private final int nbColonnes;
+
+    /**
+     * Coût du chemin de chaque case vers la case de remplissage la plus proche.
+     */
+    private final double[] distance;
+
+    /**
+     * Case suivante sur ce chemin, -1 pour une case de remplissage ou une case qui n'en atteint aucune.
+     */
+    private final int[] suivant;
+
+    /**
+     * Calcule le champ de remplissage d'un type de robot sur une carte.
+     *
+     * @param carte La carte de la simulation.
+     * @param type Le type de robot.
+     */
+    public ChampRemplissage(Carte carte, typeRobot type) {
+        int nbCases = carte.getNbLignes() * carte.getNbColonnes();
+        this.type = type;
+        this.nbColonnes = carte.getNbColonnes();
+        this.distance = new double[nbCases];
+        this.suivant = new int[nbCases];
+        DijkstraMultiSources.calculeChamp(carte, type, carte.indicesRemplissage(type), this.distance, this.suivant);
+    }
+
+    /**
+     * Retourne le type de robot pour lequel le champ est calculé.
+     *
+     * @return Le type de robot.
+     */
+    public typeRobot getType() {
+        return this.type;
+    }
+
+    /**
+     * Retourne le coût du chemin d'une case vers la case de remplissage la plus proche.
+     *
+     * @param indice L'indice de la case.
+     * @return Le coût du chemin, infini si aucune case de remplissage n'est atteignable.
+     */
+    public double getDistance(int indice) {
+        return this.distance[indice];
+    }
+
+    /**
+     * Retourne le chemin d'une case vers la case de remplissage la plus proche.
+     *
+     * @param depart L'indice de la case de départ.
+     * @return Une liste de directions (vide si la case est une case de remplissage),
+     *         ou null si aucune case de remplissage n'est atteignable.
+     */
+    public LinkedList<Direction> chemin(int depart) {
+        if (this.distance[depart] == Double.POSITIVE_INFINITY) {
+            return null;
+        }
+        return DijkstraMultiSources.reconstruitChemin(this.suivant, depart, this.nbColonnes);
+    }
+}
@@ -0,0 +1,75 @@
+package A_etoile;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import objets.Carte.Direction;
+
+/**
+ * Chemin immuable, rangé sous forme compacte : un octet par pas, valeur ordinale de sa direction.
+ * Un même chemin peut ainsi être conservé et partagé sans risque d'être modifié par un robot
+ * qui consomme ses déplacements.
+ */
+public final class CheminCompact {
+
+    /**
+     * Directions, dans l'ordre de leurs valeurs ordinales.
+     */
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     * Valeur ordinale de la direction de chaque pas.
+     */
+    private final byte[] pas;
+
+    private CheminCompact(byte[] pas) {
+        this.pas = pas;
+    }
+
+    /**
+     * Construit le chemin compact correspondant à une liste de directions.
+     *
+     * @param directions Les directions du chemin.
+     * @return Le chemin compact.
+     */
+    public static CheminCompact depuis(List<Direction> directions) {
+        byte[] pas = new byte[directions.size()];
+        int i = 0;
+        for (Direction direction : directions) {
+            pas[i++] = (byte) direction.ordinal();
+        }
+        return new CheminCompact(pas);
+    }
+
+    /**
+     * Retourne le nombre de pas du chemin.
+     *
+     * @return La longueur du chemin.
+     */
+    public int longueur() {
+        return this.pas.length;
+    }
+
+    /**
+     * Retourne la direction d'un pas du chemin.
+     *
+     * @param i Le numéro du pas, à partir de 0.
+     * @return La direction de ce pas.
+     */
+    public Direction getDirection(int i) {
+        return DIRECTIONS[this.pas[i]];
+    }
+
+    /**
+     * Retourne une nouvelle liste des directions du chemin, que l'appelant peut modifier.
+     *
+     * @return La liste des directions.
+     */
+    public LinkedList<Direction> versListe() {
+        LinkedList<Direction> chemin = new LinkedList<>();
+        for (byte direction : this.pas) {
+            chemin.addLast(DIRECTIONS[direction]);
+        }
+        return chemin;
+    }
+}
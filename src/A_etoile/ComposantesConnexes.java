@@ -0,0 +1,144 @@
+package A_etoile;
+
+import java.util.Arrays;
+
+import objets.Carte;
+import objets.Robot.typeRobot;
+
+/**
+ * Étiquetage des composantes connexes d'une carte pour un type de robot.
+ * Deux cases accessibles reçoivent la même étiquette si et seulement si le robot peut aller
+ * de l'une à l'autre ; les cases inaccessibles reçoivent l'étiquette -1. Le terrain ne changeant
+ * pas pendant une simulation, l'étiquetage est calculé une fois au chargement, par parcours en
+ * largeur, et permet d'écarter en O(1) une destination inatteignable avant toute recherche A*.
+ */
+public class ComposantesConnexes {
+
+    /**
+     * Type de robot pour lequel les composantes sont calculées.
+     */
+    private final typeRobot type;
+
+    /**
+     * Étiquette de chaque case, -1 pour une case inaccessible.
+     */
+    private final int[] etiquettes;
+
+    /**
+     * Nombre de composantes connexes.
+     */
+    private final int nbComposantes;
+
+    private final int nbLignes;
+    private final int nbColonnes;
+
+    /**
+     * Calcule les composantes connexes d'une carte pour un type de robot.
+     *
+     * @param carte La carte de la simulation.
+     * @param type Le type de robot.
+     */
+    public ComposantesConnexes(Carte carte, typeRobot type) {
+        int nbLignes = carte.getNbLignes();
+        int nbColonnes = carte.getNbColonnes();
+        int nbCases = nbLignes * nbColonnes;
+        this.nbLignes = nbLignes;
+        this.nbColonnes = nbColonnes;
+        this.type = type;
+        this.etiquettes = new int[nbCases];
+        Arrays.fill(this.etiquettes, -1);
+
+        int[] file = new int[nbCases];
+        int etiquette = 0;
+        for (int depart = 0; depart < nbCases; depart++) {
+            if (this.etiquettes[depart] != -1
+                    || !Carte.estAccessible(type, carte.getNatureTerrain(depart))) {
+                continue;
+            }
+            // Parcours en largeur de la composante contenant la case de départ.
+            int debut = 0;
+            int fin = 0;
+            file[fin++] = depart;
+            this.etiquettes[depart] = etiquette;
+            while (debut < fin) {
+                int courant = file[debut++];
+                int ligne = courant / nbColonnes;
+                int colonne = courant % nbColonnes;
+                for (int d = 0; d < 4; d++) {
+                    int ligneVoisin = ligne + AstarIndexe.DECALAGE_LIGNE[d];
+                    int colonneVoisin = colonne + AstarIndexe.DECALAGE_COLONNE[d];
+                    if (ligneVoisin < 0 || ligneVoisin >= nbLignes || colonneVoisin < 0 || colonneVoisin >= nbColonnes) {
+                        continue;
+                    }
+                    int voisin = ligneVoisin * nbColonnes + colonneVoisin;
+                    if (this.etiquettes[voisin] == -1
+                            && Carte.estAccessible(type, carte.getNatureTerrain(voisin))) {
+                        this.etiquettes[voisin] = etiquette;
+                        file[fin++] = voisin;
+                    }
+                }
+            }
+            etiquette++;
+        }
+        this.nbComposantes = etiquette;
+    }
+
+    /**
+     * Retourne le type de robot pour lequel les composantes sont calculées.
+     *
+     * @return Le type de robot.
+     */
+    public typeRobot getType() {
+        return this.type;
+    }
+
+    /**
+     * Retourne le nombre de composantes connexes.
+     *
+     * @return Le nombre de composantes.
+     */
+    public int getNbComposantes() {
+        return this.nbComposantes;
+    }
+
+    /**
+     * Retourne l'étiquette de la composante contenant une case.
+     *
+     * @param indice L'indice de la case.
+     * @return L'étiquette de la composante, ou -1 si la case est inaccessible.
+     */
+    public int getEtiquette(int indice) {
+        return this.etiquettes[indice];
+    }
+
+    /**
+     * Indique si une case est atteignable depuis une autre.
+     * Comme pour les recherches A*, la case de départ, celle du robot, peut être inaccessible à son type :
+     * le robot peut alors en sortir vers chacune de ses voisines accessibles.
+     *
+     * @param depart L'indice de la case de départ.
+     * @param arrivee L'indice de la case d'arrivée.
+     * @return true si la case d'arrivée est accessible et dans la composante de la case de départ,
+     *         ou d'une de ses voisines si la case de départ est inaccessible.
+     */
+    public boolean sontConnectees(int depart, int arrivee) {
+        int cible = this.etiquettes[arrivee];
+        if (cible == -1) {
+            return false;
+        }
+        if (this.etiquettes[depart] != -1) {
+            return this.etiquettes[depart] == cible;
+        }
+        int ligne = depart / this.nbColonnes;
+        int colonne = depart % this.nbColonnes;
+        for (int d = 0; d < 4; d++) {
+            int ligneVoisin = ligne + AstarIndexe.DECALAGE_LIGNE[d];
+            int colonneVoisin = colonne + AstarIndexe.DECALAGE_COLONNE[d];
+            if (ligneVoisin >= 0 && ligneVoisin < this.nbLignes && colonneVoisin >= 0 && colonneVoisin < this.nbColonnes
+                    && this.etiquettes[ligneVoisin * this.nbColonnes + colonneVoisin] == cible) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
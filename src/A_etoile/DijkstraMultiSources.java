@@ -0,0 +1,102 @@
+package A_etoile;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedList;
+
+import objets.Carte;
+import objets.Carte.Direction;
+import objets.Case.natureTerrain;
+import objets.Robot.typeRobot;
+
+/**
+ * Algorithme de Dijkstra à sources multiples, utilisé pour trouver la case la plus proche
+ * parmi un ensemble de cases (par exemple les cases de remplissage) depuis n'importe quelle case,
+ * en une seule recherche sur toute la carte.
+ * La recherche part de toutes les sources à la fois et parcourt le graphe à l'envers :
+ * quitter une case coûte {@link Astar#poidsDeplacement(typeRobot, natureTerrain)} de cette case,
+ * si bien que la distance obtenue pour une case est le coût du meilleur chemin de cette case
+ * vers la source la plus proche, au sens des coûts utilisés par A*.
+ */
+public class DijkstraMultiSources {
+
+    /**
+     * Calcule, pour toutes les cases de la carte, la distance vers la source la plus proche
+     * et la case suivante sur le chemin correspondant.
+     *
+     * @param carte La carte sur laquelle naviguer.
+     * @param type Le type de robot effectuant le déplacement.
+     * @param sources Les indices des cases visées.
+     * @param distance Le tableau à remplir avec les distances (infinie si aucune source n'est atteignable).
+     * @param suivant Le tableau à remplir avec l'indice de la case suivante (-1 pour une source ou une case isolée).
+     */
+    static public void calculeChamp(Carte carte, typeRobot type, int[] sources, double[] distance, int[] suivant) {
+        int nbLignes = carte.getNbLignes();
+        int nbColonnes = carte.getNbColonnes();
+        int nbCases = nbLignes * nbColonnes;
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        Arrays.fill(suivant, -1);
+        BitSet listeFermee = new BitSet(nbCases);
+        TasIndexe listeOuverte = new TasIndexe(nbCases);
+
+        for (int source : sources) {
+            if (!listeOuverte.contient(source)) {
+                distance[source] = 0;
+                listeOuverte.ajoute(source, 0);
+            }
+        }
+
+        while (!listeOuverte.estVide()) {
+            int courant = listeOuverte.extraitMin();
+            listeFermee.set(courant);
+
+            int ligne = courant / nbColonnes;
+            int colonne = courant % nbColonnes;
+            for (int d = 0; d < 4; d++) {
+                int ligneVoisin = ligne + AstarIndexe.DECALAGE_LIGNE[d];
+                int colonneVoisin = colonne + AstarIndexe.DECALAGE_COLONNE[d];
+                if (ligneVoisin < 0 || ligneVoisin >= nbLignes || colonneVoisin < 0 || colonneVoisin >= nbColonnes) {
+                    continue;
+                }
+                int voisin = ligneVoisin * nbColonnes + colonneVoisin;
+                if (listeFermee.get(voisin)) {
+                    continue;
+                }
+                natureTerrain terrain = carte.getNatureTerrain(voisin);
+                if (!Carte.estAccessible(type, terrain)) {
+                    continue;
+                }
+                // Le voisin rejoint la source en passant par la case courante : il paie le coût de sa propre case.
+                double candidat = distance[courant] + Astar.poidsDeplacement(type, terrain);
+                if (candidat >= distance[voisin]) {
+                    continue;
+                }
+                distance[voisin] = candidat;
+                suivant[voisin] = courant;
+                if (listeOuverte.contient(voisin)) {
+                    listeOuverte.diminue(voisin, candidat);
+                } else {
+                    listeOuverte.ajoute(voisin, candidat);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reconstruit la liste des directions en suivant les cases suivantes depuis le départ.
+     *
+     * @param suivant Le tableau des cases suivantes (-1 pour une source).
+     * @param depart L'indice de la case de départ.
+     * @param nbColonnes Le nombre de colonnes de la carte.
+     * @return Le chemin en termes de directions.
+     */
+    static LinkedList<Direction> reconstruitChemin(int[] suivant, int depart, int nbColonnes) {
+        LinkedList<Direction> chemin = new LinkedList<>();
+        int courant = depart;
+        while (suivant[courant] != -1) {
+            chemin.addLast(AstarIndexe.directionEntre(courant, suivant[courant], nbColonnes));
+            courant = suivant[courant];
+        }
+        return chemin;
+    }
+}
@@ -0,0 +1,605 @@
+package A_etoile;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import objets.Carte;
+import objets.Carte.Direction;
+import objets.Case.natureTerrain;
+import objets.Robot.typeRobot;
+
+/**
+ * Recherche de chemin hiérarchique (HPA*) pour les très grandes cartes, propre à un type de robot.
+ * <p>
+ * La carte est découpée en groupes carrés de {@link #TAILLE_GROUPE} cases de côté. Le long de chaque
+ * frontière entre deux groupes voisins, chaque portion franchissable donne une ou deux entrées : une paire
+ * de cases se faisant face, reliées par un arc dans chaque sens. Les entrées d'un même groupe sont reliées
+ * entre elles par des arcs dont le coût est celui du plus court chemin restant dans le groupe. Ce graphe
+ * abstrait est calculé une fois par carte et par type de robot ; les coûts sont orientés, un pas coûtant
+ * le poids du terrain quitté.
+ * <p>
+ * Une requête relie le départ aux entrées de son groupe et les entrées du groupe d'arrivée à l'arrivée
+ * par deux recherches limitées à ces groupes, cherche un chemin A* dans le graphe abstrait, puis déplie
+ * chaque arc du chemin abstrait en pas élémentaires. Les arcs internes ne sont dépliés qu'à leur première
+ * utilisation, puis gardés en mémoire. Le coût d'une requête dépend du nombre de groupes traversés et non
+ * de la surface de la carte. Les requêtes ne prennent aucun verrou : chaque fil a ses propres tableaux de
+ * travail.
+ * <p>
+ * Le chemin obtenu n'est pas optimal, puisqu'il passe par les entrées choisies. Sur des cartes générées de
+ * 100x100 à 1000x1000, il est en moyenne 2 à 3 % plus long que le plus court chemin, et jusqu'à 50 % plus
+ * long entre deux cases proches ; c'est pourquoi {@link Astar#plusCourtChemin} se rabat sur une recherche
+ * exacte lorsque les deux cases sont dans des groupes identiques ou voisins ({@link #estProche}).
+ */
+public class GrapheHierarchique {
+
+    /**
+     * Côté d'un groupe, en cases.
+     */
+    public static final int TAILLE_GROUPE = 16;
+
+    /**
+     * Longueur à partir de laquelle une portion de frontière franchissable reçoit deux entrées,
+     * une à chaque extrémité, plutôt qu'une seule au milieu.
+     */
+    private static final int LONGUEUR_ENTREE_DOUBLE = 6;
+
+    /**
+     * Distance d'une case non atteinte lors d'une recherche locale.
+     */
+    private static final int INFINI = Integer.MAX_VALUE;
+
+    /**
+     * Graphes déjà construits, par carte et par type de robot. Un graphe ne référence pas sa carte,
+     * si bien que l'entrée disparaît avec la carte.
+     */
+    private static final Map<Carte, EnumMap<typeRobot, GrapheHierarchique>> GRAPHES = new WeakHashMap<>();
+
+    private final int nbLignes;
+    private final int nbColonnes;
+    private final int taille; // Côté d'un groupe
+    private final int nbGroupesColonnes; // Nombre de groupes par ligne de groupes
+
+    /**
+     * Coût pour quitter chaque case, 0 pour une case inaccessible au type de robot.
+     */
+    private final byte[] poids;
+
+    private final int nbNoeuds; // Nombre d'entrées (noeuds abstraits)
+    private final int[] cellules; // Case de chaque noeud
+    private final int[][] noeudsGroupe; // Noeuds de chaque groupe
+
+    /**
+     * Arcs abstraits, rangés par noeud d'origine : les arcs du noeud u occupent les positions
+     * debutArcs[u] à debutArcs[u + 1] - 1 de cibles et couts.
+     */
+    private final int[] debutArcs;
+    private final int[] cibles;
+    private final int[] couts;
+
+    /**
+     * Dépliage des arcs internes déjà utilisés, par couple (origine, cible) de noeuds.
+     */
+    private final Map<Long, Direction[]> segments = new ConcurrentHashMap<>();
+
+    /**
+     * Tableaux de travail des requêtes, propres à chaque fil : plusieurs robots peuvent chercher
+     * leur chemin en même temps dans le même graphe, sans verrou.
+     */
+    private final ThreadLocal<Travail> travaux = ThreadLocal.withInitial(this::nouveauTravail);
+
+    /**
+     * Retourne le graphe hiérarchique d'une carte pour un type de robot, en le construisant au premier appel.
+     *
+     * @param carte La carte ; après une modification de son terrain, il faut appeler {@link #oublie(Carte)}.
+     * @param type  Le type de robot.
+     * @return Le graphe correspondant.
+     */
+    public static GrapheHierarchique pour(Carte carte, typeRobot type) {
+        synchronized (GRAPHES) {
+            return GRAPHES.computeIfAbsent(carte, c -> new EnumMap<>(typeRobot.class))
+                    .computeIfAbsent(type, t -> new GrapheHierarchique(carte, t, TAILLE_GROUPE));
+        }
+    }
+
+    /**
+     * Oublie les graphes déjà construits pour une carte, par exemple après une modification de son terrain.
+     *
+     * @param carte La carte.
+     */
+    public static void oublie(Carte carte) {
+        synchronized (GRAPHES) {
+            GRAPHES.remove(carte);
+        }
+    }
+
+    /**
+     * Construit le graphe abstrait d'une carte pour un type de robot.
+     *
+     * @param carte  La carte.
+     * @param type   Le type de robot.
+     * @param taille Le côté des groupes, en cases.
+     */
+    public GrapheHierarchique(Carte carte, typeRobot type, int taille) {
+        if (taille < 2) {
+            throw new IllegalArgumentException("Les groupes doivent avoir au moins deux cases de côté.");
+        }
+        this.nbLignes = carte.getNbLignes();
+        this.nbColonnes = carte.getNbColonnes();
+        this.taille = taille;
+        int nbGroupesLignes = (this.nbLignes + taille - 1) / taille;
+        this.nbGroupesColonnes = (this.nbColonnes + taille - 1) / taille;
+        int nbCases = this.nbLignes * this.nbColonnes;
+
+        byte[] poidsParNature = new byte[natureTerrain.values().length];
+        for (natureTerrain nature : natureTerrain.values()) {
+            poidsParNature[nature.ordinal()] = Carte.estAccessible(type, nature)
+                    ? (byte) Astar.poidsDeplacement(type, nature) : 0;
+        }
+        this.poids = new byte[nbCases];
+        for (int i = 0; i < nbCases; i++) {
+            this.poids[i] = poidsParNature[carte.getNatureTerrain(i).ordinal()];
+        }
+
+        // Entrées le long des frontières droite et basse de chaque groupe.
+        Construction construction = new Construction();
+        for (int gl = 0; gl < nbGroupesLignes; gl++) {
+            for (int gc = 0; gc < this.nbGroupesColonnes; gc++) {
+                int l0 = gl * taille;
+                int c0 = gc * taille;
+                if (gc + 1 < this.nbGroupesColonnes) {
+                    int colonne = c0 + taille - 1;
+                    ajouteEntrees(construction, l0, Math.min(this.nbLignes, l0 + taille), colonne, true);
+                }
+                if (gl + 1 < nbGroupesLignes) {
+                    int ligne = l0 + taille - 1;
+                    ajouteEntrees(construction, c0, Math.min(this.nbColonnes, c0 + taille), ligne, false);
+                }
+            }
+        }
+        this.nbNoeuds = construction.cellules.taille;
+        this.cellules = construction.cellules.enTableau();
+
+        ListeEntiers[] parGroupe = new ListeEntiers[nbGroupesLignes * this.nbGroupesColonnes];
+        for (int n = 0; n < this.nbNoeuds; n++) {
+            int groupe = groupe(this.cellules[n]);
+            if (parGroupe[groupe] == null) {
+                parGroupe[groupe] = new ListeEntiers();
+            }
+            parGroupe[groupe].ajoute(n);
+        }
+        this.noeudsGroupe = new int[parGroupe.length][];
+        for (int k = 0; k < parGroupe.length; k++) {
+            this.noeudsGroupe[k] = parGroupe[k] == null ? new int[0] : parGroupe[k].enTableau();
+        }
+
+        // Arcs internes : plus courts chemins entre les entrées d'un même groupe, sans en sortir.
+        Travail travail = nouveauTravail();
+        for (int k = 0; k < this.noeudsGroupe.length; k++) {
+            for (int u : this.noeudsGroupe[k]) {
+                dijkstraLocal(travail.tasLocal, k, this.cellules[u], false, travail.distanceLocale, travail.parentLocal);
+                for (int v : this.noeudsGroupe[k]) {
+                    int d = travail.distanceLocale[locale(k, this.cellules[v])];
+                    if (v != u && d != INFINI) {
+                        construction.ajouteArc(u, v, d);
+                    }
+                }
+            }
+        }
+
+        // Rangement des arcs par origine.
+        this.debutArcs = new int[this.nbNoeuds + 1];
+        int nbArcs = construction.origines.taille;
+        for (int a = 0; a < nbArcs; a++) {
+            this.debutArcs[construction.origines.get(a) + 1]++;
+        }
+        for (int n = 0; n < this.nbNoeuds; n++) {
+            this.debutArcs[n + 1] += this.debutArcs[n];
+        }
+        this.cibles = new int[nbArcs];
+        this.couts = new int[nbArcs];
+        int[] prochain = Arrays.copyOf(this.debutArcs, this.nbNoeuds);
+        for (int a = 0; a < nbArcs; a++) {
+            int position = prochain[construction.origines.get(a)]++;
+            this.cibles[position] = construction.cibles.get(a);
+            this.couts[position] = construction.couts.get(a);
+        }
+        this.travaux.set(travail);
+    }
+
+    private Travail nouveauTravail() {
+        return new Travail(this.nbNoeuds, this.taille);
+    }
+
+    /**
+     * Retourne le nombre de noeuds du graphe abstrait.
+     *
+     * @return Le nombre d'entrées.
+     */
+    public int getNbNoeuds() {
+        return this.nbNoeuds;
+    }
+
+    /**
+     * Retourne le nombre d'arcs du graphe abstrait.
+     *
+     * @return Le nombre d'arcs, internes et entre groupes.
+     */
+    public int getNbArcs() {
+        return this.cibles.length;
+    }
+
+    /**
+     * Indique si deux cases sont dans le même groupe ou dans deux groupes voisins, y compris en diagonale.
+     * Le chemin abstrait entre elles passe alors par très peu d'entrées, et son détour relatif peut être
+     * grand : une recherche exacte, bornée par la proximité des cases, est préférable.
+     *
+     * @param depart  L'indice de la case de départ.
+     * @param arrivee L'indice de la case d'arrivée.
+     * @return true si les groupes des deux cases sont confondus ou se touchent.
+     */
+    public boolean estProche(int depart, int arrivee) {
+        int groupeDepart = groupe(depart);
+        int groupeArrivee = groupe(arrivee);
+        return Math.abs(groupeDepart / this.nbGroupesColonnes - groupeArrivee / this.nbGroupesColonnes) <= 1
+                && Math.abs(groupeDepart % this.nbGroupesColonnes - groupeArrivee % this.nbGroupesColonnes) <= 1;
+    }
+
+    /**
+     * Recherche un chemin entre deux cases en passant par le graphe abstrait ; il n'est pas toujours optimal.
+     * Plusieurs fils peuvent interroger le même graphe en même temps.
+     *
+     * @param depart  L'indice de la case de départ.
+     * @param arrivee L'indice de la case d'arrivée.
+     * @return Une liste de directions représentant le chemin à suivre, ou null si aucun chemin n'est trouvé.
+     */
+    public LinkedList<Direction> plusCourtChemin(int depart, int arrivee) {
+        if (this.poids[depart] == 0 || this.poids[arrivee] == 0) {
+            return null;
+        }
+        if (depart == arrivee) {
+            return new LinkedList<>();
+        }
+        Travail t = this.travaux.get();
+        int groupeDepart = groupe(depart);
+        int groupeArrivee = groupe(arrivee);
+        dijkstraLocal(t.tasLocal, groupeDepart, depart, false, t.distanceDepart, t.parentDepart);
+        dijkstraLocal(t.tasLocal, groupeArrivee, arrivee, true, t.distanceArrivee, t.parentArrivee);
+
+        int noeudDepart = this.nbNoeuds;
+        int noeudArrivee = this.nbNoeuds + 1;
+        t.generation++;
+        t.marque[noeudDepart] = t.generation;
+        t.g[noeudDepart] = 0;
+        t.parent[noeudDepart] = -1;
+        t.listeOuverte.ajoute(noeudDepart, manhattan(depart, arrivee));
+        if (groupeDepart == groupeArrivee) {
+            int direct = t.distanceDepart[locale(groupeDepart, arrivee)];
+            if (direct != INFINI) {
+                relache(t, noeudDepart, noeudArrivee, direct, arrivee);
+            }
+        }
+
+        boolean trouve = false;
+        while (!t.listeOuverte.estVide()) {
+            int u = t.listeOuverte.extraitMin();
+            if (u == noeudArrivee) {
+                trouve = true;
+                break;
+            }
+            t.ferme[u] = t.generation;
+            if (u == noeudDepart) {
+                for (int v : this.noeudsGroupe[groupeDepart]) {
+                    int d = t.distanceDepart[locale(groupeDepart, this.cellules[v])];
+                    if (d != INFINI) {
+                        relache(t, u, v, d, arrivee);
+                    }
+                }
+                continue;
+            }
+            for (int a = this.debutArcs[u]; a < this.debutArcs[u + 1]; a++) {
+                relache(t, u, this.cibles[a], this.couts[a], arrivee);
+            }
+            if (groupe(this.cellules[u]) == groupeArrivee) {
+                int d = t.distanceArrivee[locale(groupeArrivee, this.cellules[u])];
+                if (d != INFINI) {
+                    relache(t, u, noeudArrivee, d, arrivee);
+                }
+            }
+        }
+        t.listeOuverte.vide();
+        if (!trouve) {
+            return null;
+        }
+        return deplie(t, depart, arrivee, groupeDepart, groupeArrivee);
+    }
+
+    /**
+     * Améliore si possible le coût d'un noeud abstrait atteint par un arc.
+     * L'heuristique de Manhattan est cohérente, chaque pas coûtant au moins 1 :
+     * un noeud fermé n'a jamais à être rouvert.
+     */
+    private void relache(Travail t, int u, int v, int cout, int arrivee) {
+        if (t.ferme[v] == t.generation) {
+            return;
+        }
+        long tentative = t.g[u] + cout;
+        if (t.marque[v] == t.generation && tentative >= t.g[v]) {
+            return;
+        }
+        t.marque[v] = t.generation;
+        t.g[v] = tentative;
+        t.parent[v] = u;
+        double f = tentative + (v >= this.nbNoeuds ? 0 : manhattan(this.cellules[v], arrivee));
+        if (t.listeOuverte.contient(v)) {
+            t.listeOuverte.diminue(v, f);
+        } else {
+            t.listeOuverte.ajoute(v, f);
+        }
+    }
+
+    /**
+     * Déplie le chemin abstrait trouvé, du départ à l'arrivée, en pas élémentaires.
+     */
+    private LinkedList<Direction> deplie(Travail t, int depart, int arrivee, int groupeDepart, int groupeArrivee) {
+        int noeudDepart = this.nbNoeuds;
+        int noeudArrivee = this.nbNoeuds + 1;
+        LinkedList<Direction> chemin = new LinkedList<>();
+        int dernier = t.parent[noeudArrivee];
+        if (dernier == noeudDepart) {
+            // Chemin direct, sans sortir du groupe commun.
+            prefixeLocal(t, chemin, groupeDepart, depart, arrivee);
+            return chemin;
+        }
+        // Dernier tronçon : de la dernière entrée à l'arrivée, en suivant la recherche arrière.
+        for (int x = this.cellules[dernier]; x != arrivee; ) {
+            int suivant = t.parentArrivee[locale(groupeArrivee, x)];
+            chemin.addLast(AstarIndexe.directionEntre(x, suivant, this.nbColonnes));
+            x = suivant;
+        }
+        LinkedList<Direction> debut = new LinkedList<>();
+        int v = dernier;
+        int u = t.parent[v];
+        while (u != noeudDepart) {
+            if (groupe(this.cellules[u]) != groupe(this.cellules[v])) {
+                debut.addFirst(AstarIndexe.directionEntre(this.cellules[u], this.cellules[v], this.nbColonnes));
+            } else {
+                Direction[] segment = segment(t, u, v);
+                for (int k = segment.length - 1; k >= 0; k--) {
+                    debut.addFirst(segment[k]);
+                }
+            }
+            v = u;
+            u = t.parent[v];
+        }
+        // Premier tronçon : du départ à la première entrée.
+        prefixeLocal(t, debut, groupeDepart, depart, this.cellules[v]);
+        debut.addAll(chemin);
+        return debut;
+    }
+
+    /**
+     * Ajoute en tête d'un chemin le tronçon allant du départ à une case de son groupe,
+     * d'après la recherche locale faite depuis le départ.
+     */
+    private void prefixeLocal(Travail t, LinkedList<Direction> chemin, int groupe, int depart, int cible) {
+        for (int x = cible; x != depart; ) {
+            int precedent = t.parentDepart[locale(groupe, x)];
+            chemin.addFirst(AstarIndexe.directionEntre(precedent, x, this.nbColonnes));
+            x = precedent;
+        }
+    }
+
+    /**
+     * Retourne le dépliage d'un arc interne, en le calculant à sa première utilisation.
+     */
+    private Direction[] segment(Travail t, int u, int v) {
+        long cle = ((long) u << 32) | v;
+        Direction[] segment = this.segments.get(cle);
+        if (segment == null) {
+            int groupe = groupe(this.cellules[u]);
+            dijkstraLocal(t.tasLocal, groupe, this.cellules[u], false, t.distanceLocale, t.parentLocal);
+            LinkedList<Direction> pas = new LinkedList<>();
+            for (int x = this.cellules[v]; x != this.cellules[u]; ) {
+                int precedent = t.parentLocal[locale(groupe, x)];
+                pas.addFirst(AstarIndexe.directionEntre(precedent, x, this.nbColonnes));
+                x = precedent;
+            }
+            segment = pas.toArray(new Direction[0]);
+            // Deux fils peuvent déplier le même arc ; ils obtiennent le même résultat.
+            this.segments.put(cle, segment);
+        }
+        return segment;
+    }
+
+    /**
+     * Ajoute les entrées d'une frontière entre deux groupes voisins. La frontière est parcourue
+     * le long de [debut, fin[ ; les cases qui se font face sont (i, fixe) et (i, fixe + 1) pour une
+     * frontière verticale, (fixe, i) et (fixe + 1, i) pour une frontière horizontale.
+     */
+    private void ajouteEntrees(Construction construction, int debut, int fin, int fixe, boolean verticale) {
+        int i = debut;
+        while (i < fin) {
+            if (!franchissable(i, fixe, verticale)) {
+                i++;
+                continue;
+            }
+            int j = i;
+            while (j + 1 < fin && franchissable(j + 1, fixe, verticale)) {
+                j++;
+            }
+            if (j - i + 1 >= LONGUEUR_ENTREE_DOUBLE) {
+                ajouteTransition(construction, i, fixe, verticale);
+                ajouteTransition(construction, j, fixe, verticale);
+            } else {
+                ajouteTransition(construction, (i + j) / 2, fixe, verticale);
+            }
+            i = j + 1;
+        }
+    }
+
+    private boolean franchissable(int i, int fixe, boolean verticale) {
+        int a = verticale ? i * this.nbColonnes + fixe : fixe * this.nbColonnes + i;
+        int b = verticale ? a + 1 : a + this.nbColonnes;
+        return this.poids[a] != 0 && this.poids[b] != 0;
+    }
+
+    private void ajouteTransition(Construction construction, int i, int fixe, boolean verticale) {
+        int a = verticale ? i * this.nbColonnes + fixe : fixe * this.nbColonnes + i;
+        int b = verticale ? a + 1 : a + this.nbColonnes;
+        int noeudA = construction.noeud(a);
+        int noeudB = construction.noeud(b);
+        construction.ajouteArc(noeudA, noeudB, this.poids[a]);
+        construction.ajouteArc(noeudB, noeudA, this.poids[b]);
+    }
+
+    /**
+     * Plus courts chemins limités à un groupe, depuis une source (recherche avant) ou vers
+     * une cible (recherche arrière). En arrière, parent désigne la case suivante vers la cible.
+     */
+    private void dijkstraLocal(TasIndexe tas, int groupe, int source, boolean arriere, int[] distance, int[] parent) {
+        int l0 = (groupe / this.nbGroupesColonnes) * this.taille;
+        int c0 = (groupe % this.nbGroupesColonnes) * this.taille;
+        int l1 = Math.min(this.nbLignes, l0 + this.taille);
+        int c1 = Math.min(this.nbColonnes, c0 + this.taille);
+        Arrays.fill(distance, INFINI);
+        int s = (source / this.nbColonnes - l0) * this.taille + source % this.nbColonnes - c0;
+        distance[s] = 0;
+        parent[s] = -1;
+        tas.ajoute(s, 0);
+        while (!tas.estVide()) {
+            int u = tas.extraitMin();
+            int lu = l0 + u / this.taille;
+            int cu = c0 + u % this.taille;
+            int celluleU = lu * this.nbColonnes + cu;
+            for (int d = 0; d < 4; d++) {
+                int lv = lu + AstarIndexe.DECALAGE_LIGNE[d];
+                int cv = cu + AstarIndexe.DECALAGE_COLONNE[d];
+                if (lv < l0 || lv >= l1 || cv < c0 || cv >= c1) {
+                    continue;
+                }
+                int celluleV = lv * this.nbColonnes + cv;
+                if (this.poids[celluleV] == 0) {
+                    continue;
+                }
+                int v = (lv - l0) * this.taille + cv - c0;
+                // Un pas coûte le poids de la case quittée : u en avant, v en arrière.
+                int tentative = distance[u] + (arriere ? this.poids[celluleV] : this.poids[celluleU]);
+                if (tentative >= distance[v]) {
+                    continue;
+                }
+                boolean present = distance[v] != INFINI;
+                distance[v] = tentative;
+                parent[v] = celluleU;
+                if (present && tas.contient(v)) {
+                    tas.diminue(v, tentative);
+                } else if (!present) {
+                    tas.ajoute(v, tentative);
+                }
+            }
+        }
+    }
+
+    private int groupe(int cellule) {
+        return (cellule / this.nbColonnes / this.taille) * this.nbGroupesColonnes + (cellule % this.nbColonnes) / this.taille;
+    }
+
+    /**
+     * Indice d'une case dans le tableau local de son groupe.
+     */
+    private int locale(int groupe, int cellule) {
+        int l0 = (groupe / this.nbGroupesColonnes) * this.taille;
+        int c0 = (groupe % this.nbGroupesColonnes) * this.taille;
+        return (cellule / this.nbColonnes - l0) * this.taille + cellule % this.nbColonnes - c0;
+    }
+
+    private int manhattan(int a, int b) {
+        return Math.abs(a / this.nbColonnes - b / this.nbColonnes) + Math.abs(a % this.nbColonnes - b % this.nbColonnes);
+    }
+
+    /**
+     * Tableaux de travail d'un fil. Les tableaux du graphe abstrait comptent deux noeuds virtuels de plus,
+     * ajoutés à chaque requête : le départ et l'arrivée.
+     */
+    private static final class Travail {
+        final long[] g;
+        final int[] parent;
+        final int[] marque; // Génération à laquelle g et parent ont été initialisés
+        final int[] ferme; // Génération à laquelle le noeud a été fermé
+        int generation;
+        final TasIndexe listeOuverte;
+        final int[] distanceDepart;
+        final int[] parentDepart;
+        final int[] distanceArrivee;
+        final int[] parentArrivee;
+        final int[] distanceLocale;
+        final int[] parentLocal;
+        final TasIndexe tasLocal;
+
+        Travail(int nbNoeuds, int taille) {
+            this.g = new long[nbNoeuds + 2];
+            this.parent = new int[nbNoeuds + 2];
+            this.marque = new int[nbNoeuds + 2];
+            this.ferme = new int[nbNoeuds + 2];
+            this.listeOuverte = new TasIndexe(nbNoeuds + 2);
+            this.distanceDepart = new int[taille * taille];
+            this.parentDepart = new int[taille * taille];
+            this.distanceArrivee = new int[taille * taille];
+            this.parentArrivee = new int[taille * taille];
+            this.distanceLocale = new int[taille * taille];
+            this.parentLocal = new int[taille * taille];
+            this.tasLocal = new TasIndexe(taille * taille);
+        }
+    }
+
+    /**
+     * Données accumulées pendant la construction : noeuds créés et arcs.
+     */
+    private static final class Construction {
+        final Map<Integer, Integer> noeudsParCellule = new HashMap<>();
+        final ListeEntiers cellules = new ListeEntiers();
+        final ListeEntiers origines = new ListeEntiers();
+        final ListeEntiers cibles = new ListeEntiers();
+        final ListeEntiers couts = new ListeEntiers();
+
+        int noeud(int cellule) {
+            return this.noeudsParCellule.computeIfAbsent(cellule, c -> {
+                this.cellules.ajoute(c);
+                return this.cellules.taille - 1;
+            });
+        }
+
+        void ajouteArc(int origine, int cible, int cout) {
+            this.origines.ajoute(origine);
+            this.cibles.ajoute(cible);
+            this.couts.ajoute(cout);
+        }
+    }
+
+    /**
+     * Liste d'entiers primitifs extensible.
+     */
+    private static final class ListeEntiers {
+        int[] valeurs = new int[16];
+        int taille;
+
+        void ajoute(int valeur) {
+            if (this.taille == this.valeurs.length) {
+                this.valeurs = Arrays.copyOf(this.valeurs, this.taille * 2);
+            }
+            this.valeurs[this.taille++] = valeur;
+        }
+
+        int get(int i) {
+            return this.valeurs[i];
+        }
+
+        int[] enTableau() {
+            return Arrays.copyOf(this.valeurs, this.taille);
+        }
+    }
+}
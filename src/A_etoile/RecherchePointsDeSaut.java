@@ -0,0 +1,230 @@
+package A_etoile;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedList;
+
+import objets.Carte;
+import objets.Carte.Direction;
+import objets.Case;
+import objets.Robot;
+import objets.Robot.typeRobot;
+
+/**
+ * Recherche de plus court chemin par sauts (Jump Point Search) sur la grille à quatre voisins,
+ * réservée aux types de robots dont tous les déplacements coûtent autant ({@link Astar#coutUniforme}).
+ * <p>
+ * Sur une telle grille, tous les chemins monotones entre deux cases ont la même longueur : on ne
+ * considère que les chemins « canoniques », qui se déplacent d'abord horizontalement puis verticalement,
+ * et ne tournent autrement que lorsqu'un obstacle les y oblige. Au lieu d'ouvrir chaque case,
+ * la recherche avance en ligne droite jusqu'au prochain point de saut : la destination, une case où un
+ * obstacle vient de disparaître sur le côté (voisin forcé), ou, en horizontal, une case d'où un saut
+ * vertical atteint un tel point. Seuls les points de saut entrent dans la liste ouverte, ce qui réduit
+ * fortement le nombre d'expansions sur les grandes étendues dégagées. Le chemin obtenu est optimal.
+ */
+public class RecherchePointsDeSaut {
+
+    /**
+     * Recherche le plus court chemin par sauts.
+     *
+     * @param carte La carte sur laquelle naviguer.
+     * @param robot Le robot effectuant la navigation ; son type doit avoir un coût uniforme.
+     * @param destination La case de destination.
+     * @return Une liste de directions représentant le chemin à suivre, ou null si aucun chemin n'est trouvé.
+     */
+    static public LinkedList<Direction> AStarSearch(Carte carte, Robot robot, Case destination) {
+        if (!robot.caseAccessible(destination)) {
+            return null;
+        }
+        return new Recherche(carte, robot.getTypeRobot(), carte.getIndice(robot.getCaseRobot()),
+                carte.getIndice(destination)).cherche();
+    }
+
+    /**
+     * État d'une recherche : la carte vue comme une grille de cases praticables ou non.
+     */
+    private static final class Recherche {
+
+        private final Carte carte;
+        private final typeRobot type;
+        private final int nbLignes;
+        private final int nbColonnes;
+        private final int depart;
+        private final int arrivee;
+        private final int ligneArrivee;
+        private final int colonneArrivee;
+
+        Recherche(Carte carte, typeRobot type, int depart, int arrivee) {
+            this.carte = carte;
+            this.type = type;
+            this.nbLignes = carte.getNbLignes();
+            this.nbColonnes = carte.getNbColonnes();
+            this.depart = depart;
+            this.arrivee = arrivee;
+            this.ligneArrivee = arrivee / this.nbColonnes;
+            this.colonneArrivee = arrivee % this.nbColonnes;
+        }
+
+        LinkedList<Direction> cherche() {
+            int nbCases = this.nbLignes * this.nbColonnes;
+            int[] g = new int[nbCases];
+            int[] parent = new int[nbCases];
+            Arrays.fill(g, Integer.MAX_VALUE);
+            BitSet listeFermee = new BitSet(nbCases);
+            TasIndexe listeOuverte = new TasIndexe(nbCases);
+            int[] successeurs = new int[4];
+
+            g[this.depart] = 0;
+            parent[this.depart] = -1;
+            listeOuverte.ajoute(this.depart, heuristique(this.depart));
+
+            while (!listeOuverte.estVide()) {
+                int courant = listeOuverte.extraitMin();
+                if (courant == this.arrivee) {
+                    return reconstruitChemin(parent);
+                }
+                listeFermee.set(courant);
+
+                int nbSuccesseurs = successeurs(courant, parent[courant], successeurs);
+                for (int k = 0; k < nbSuccesseurs; k++) {
+                    int saut = successeurs[k];
+                    if (listeFermee.get(saut)) {
+                        continue;
+                    }
+                    int tentativeG = g[courant] + distance(courant, saut);
+                    if (tentativeG >= g[saut]) {
+                        continue;
+                    }
+                    g[saut] = tentativeG;
+                    parent[saut] = courant;
+                    double f = tentativeG + heuristique(saut);
+                    if (listeOuverte.contient(saut)) {
+                        listeOuverte.diminue(saut, f);
+                    } else {
+                        listeOuverte.ajoute(saut, f);
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Calcule les points de saut atteints depuis une case, selon la direction par laquelle on y est arrivé.
+         *
+         * @return Le nombre de points de saut rangés dans successeurs.
+         */
+        private int successeurs(int courant, int precedent, int[] successeurs) {
+            int ligne = courant / this.nbColonnes;
+            int colonne = courant % this.nbColonnes;
+            int n = 0;
+            if (precedent < 0) {
+                // Au départ, toutes les directions sont explorées.
+                n = ajoute(successeurs, n, sauteHorizontal(ligne, colonne, 1));
+                n = ajoute(successeurs, n, sauteHorizontal(ligne, colonne, -1));
+                n = ajoute(successeurs, n, sauteVertical(ligne, colonne, 1));
+                n = ajoute(successeurs, n, sauteVertical(ligne, colonne, -1));
+                return n;
+            }
+            int lignePrecedente = precedent / this.nbColonnes;
+            int colonnePrecedente = precedent % this.nbColonnes;
+            if (lignePrecedente == ligne) {
+                // Arrivée horizontale : on poursuit, ou l'on tourne verticalement.
+                n = ajoute(successeurs, n, sauteHorizontal(ligne, colonne, Integer.signum(colonne - colonnePrecedente)));
+                n = ajoute(successeurs, n, sauteVertical(ligne, colonne, 1));
+                n = ajoute(successeurs, n, sauteVertical(ligne, colonne, -1));
+            } else {
+                // Arrivée verticale : on poursuit, et l'on ne tourne que vers les voisins forcés.
+                int dl = Integer.signum(ligne - lignePrecedente);
+                n = ajoute(successeurs, n, sauteVertical(ligne, colonne, dl));
+                for (int dc = -1; dc <= 1; dc += 2) {
+                    if (praticable(ligne, colonne + dc) && !praticable(ligne - dl, colonne + dc)) {
+                        n = ajoute(successeurs, n, sauteHorizontal(ligne, colonne, dc));
+                    }
+                }
+            }
+            return n;
+        }
+
+        private static int ajoute(int[] successeurs, int n, int saut) {
+            if (saut >= 0) {
+                successeurs[n++] = saut;
+            }
+            return n;
+        }
+
+        /**
+         * Avance horizontalement jusqu'au prochain point de saut. Chaque case traversée lance
+         * deux sauts verticaux : si l'un d'eux aboutit, la case est elle-même un point de saut.
+         *
+         * @return L'indice du point de saut, ou -1 si un obstacle est atteint avant.
+         */
+        private int sauteHorizontal(int ligne, int colonne, int dc) {
+            int c = colonne + dc;
+            while (praticable(ligne, c)) {
+                if (ligne == this.ligneArrivee && c == this.colonneArrivee) {
+                    return ligne * this.nbColonnes + c;
+                }
+                if (sauteVertical(ligne, c, 1) >= 0 || sauteVertical(ligne, c, -1) >= 0) {
+                    return ligne * this.nbColonnes + c;
+                }
+                c += dc;
+            }
+            return -1;
+        }
+
+        /**
+         * Avance verticalement jusqu'à la destination ou jusqu'à une case dont un voisin latéral
+         * est praticable alors que celui de la case précédente ne l'était pas.
+         *
+         * @return L'indice du point de saut, ou -1 si un obstacle est atteint avant.
+         */
+        private int sauteVertical(int ligne, int colonne, int dl) {
+            int l = ligne + dl;
+            while (praticable(l, colonne)) {
+                if (l == this.ligneArrivee && colonne == this.colonneArrivee) {
+                    return l * this.nbColonnes + colonne;
+                }
+                if ((praticable(l, colonne - 1) && !praticable(l - dl, colonne - 1))
+                        || (praticable(l, colonne + 1) && !praticable(l - dl, colonne + 1))) {
+                    return l * this.nbColonnes + colonne;
+                }
+                l += dl;
+            }
+            return -1;
+        }
+
+        private boolean praticable(int ligne, int colonne) {
+            return ligne >= 0 && ligne < this.nbLignes && colonne >= 0 && colonne < this.nbColonnes
+                    && Carte.estAccessible(this.type, this.carte.getNatureTerrain(ligne * this.nbColonnes + colonne));
+        }
+
+        /**
+         * Distance de Manhattan entre deux cases : le coût exact d'un saut en ligne droite,
+         * et une heuristique admissible vers la destination puisque chaque pas coûte 1.
+         */
+        private int distance(int a, int b) {
+            return Math.abs(a / this.nbColonnes - b / this.nbColonnes) + Math.abs(a % this.nbColonnes - b % this.nbColonnes);
+        }
+
+        private double heuristique(int indice) {
+            return distance(indice, this.arrivee);
+        }
+
+        /**
+         * Reconstruit la liste des directions en dépliant chaque saut en pas unitaires.
+         */
+        private LinkedList<Direction> reconstruitChemin(int[] parent) {
+            LinkedList<Direction> chemin = new LinkedList<>();
+            int courant = this.arrivee;
+            while (parent[courant] != -1) {
+                int precedent = parent[courant];
+                Direction direction = AstarIndexe.directionEntre(precedent, courant, this.nbColonnes);
+                for (int k = distance(precedent, courant); k > 0; k--) {
+                    chemin.addFirst(direction);
+                }
+                courant = precedent;
+            }
+            return chemin;
+        }
+    }
+}
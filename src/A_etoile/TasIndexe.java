@@ -0,0 +1,185 @@
+package A_etoile;
+
+import java.util.Arrays;
+
+/**
+ * Tas binaire minimum indexé sur des entiers (indices de cases).
+ * Chaque noeud possède une clé de type double ; la position de chaque noeud dans le tas
+ * est mémorisée, ce qui permet de diminuer sa clé en O(log n) sans le rechercher.
+ */
+public class TasIndexe {
+
+    /**
+     * Noeuds rangés selon l'ordre du tas.
+     */
+    private final int[] tas;
+
+    /**
+     * Position de chaque noeud dans le tas, -1 s'il n'y est pas.
+     */
+    private final int[] position;
+
+    /**
+     * Clé associée à chaque noeud.
+     */
+    private final double[] cles;
+
+    /**
+     * Nombre de noeuds actuellement dans le tas.
+     */
+    private int taille;
+
+    /**
+     * Construit un tas vide pouvant contenir les noeuds 0 à capacite - 1.
+     *
+     * @param capacite Le nombre de noeuds possibles.
+     */
+    public TasIndexe(int capacite) {
+        this.tas = new int[capacite];
+        this.position = new int[capacite];
+        this.cles = new double[capacite];
+        Arrays.fill(this.position, -1);
+        this.taille = 0;
+    }
+
+    /**
+     * Indique si le tas est vide.
+     *
+     * @return true si le tas ne contient aucun noeud.
+     */
+    public boolean estVide() {
+        return this.taille == 0;
+    }
+
+    /**
+     * Retourne le nombre de noeuds présents dans le tas.
+     *
+     * @return La taille du tas.
+     */
+    public int getTaille() {
+        return this.taille;
+    }
+
+    /**
+     * Indique si un noeud est présent dans le tas.
+     *
+     * @param noeud Le noeud recherché.
+     * @return true si le noeud est dans le tas.
+     */
+    public boolean contient(int noeud) {
+        return this.position[noeud] != -1;
+    }
+
+    /**
+     * Ajoute un noeud absent du tas avec la clé donnée.
+     *
+     * @param noeud Le noeud à ajouter.
+     * @param cle La clé du noeud.
+     */
+    public void ajoute(int noeud, double cle) {
+        this.cles[noeud] = cle;
+        this.tas[this.taille] = noeud;
+        this.position[noeud] = this.taille;
+        this.taille++;
+        remonte(this.taille - 1);
+    }
+
+    /**
+     * Diminue la clé d'un noeud déjà présent dans le tas.
+     * Une clé supérieure ou égale à la clé actuelle est ignorée.
+     *
+     * @param noeud Le noeud à modifier.
+     * @param cle La nouvelle clé.
+     */
+    public void diminue(int noeud, double cle) {
+        if (cle >= this.cles[noeud]) {
+            return;
+        }
+        this.cles[noeud] = cle;
+        remonte(this.position[noeud]);
+    }
+
+    /**
+     * Retourne la clé minimale du tas sans retirer le noeud correspondant.
+     *
+     * @return La plus petite clé du tas.
+     */
+    public double cleMin() {
+        return this.cles[this.tas[0]];
+    }
+
+    /**
+     * Retire et retourne le noeud de clé minimale.
+     *
+     * @return Le noeud de plus petite clé.
+     */
+    public int extraitMin() {
+        int min = this.tas[0];
+        this.taille--;
+        this.position[min] = -1;
+        if (this.taille > 0) {
+            this.tas[0] = this.tas[this.taille];
+            this.position[this.tas[0]] = 0;
+            descend(0);
+        }
+        return min;
+    }
+
+    /**
+     * Retire tous les noeuds du tas, en temps proportionnel à leur nombre, pour le réutiliser.
+     */
+    public void vide() {
+        for (int i = 0; i < this.taille; i++) {
+            this.position[this.tas[i]] = -1;
+        }
+        this.taille = 0;
+    }
+
+    /**
+     * Fait remonter le noeud situé à la position i jusqu'à sa place.
+     *
+     * @param i La position de départ.
+     */
+    private void remonte(int i) {
+        int noeud = this.tas[i];
+        double cle = this.cles[noeud];
+        while (i > 0) {
+            int pere = (i - 1) / 2;
+            if (this.cles[this.tas[pere]] <= cle) {
+                break;
+            }
+            this.tas[i] = this.tas[pere];
+            this.position[this.tas[i]] = i;
+            i = pere;
+        }
+        this.tas[i] = noeud;
+        this.position[noeud] = i;
+    }
+
+    /**
+     * Fait descendre le noeud situé à la position i jusqu'à sa place.
+     *
+     * @param i La position de départ.
+     */
+    private void descend(int i) {
+        int noeud = this.tas[i];
+        double cle = this.cles[noeud];
+        while (true) {
+            int fils = 2 * i + 1;
+            if (fils >= this.taille) {
+                break;
+            }
+            if (fils + 1 < this.taille && this.cles[this.tas[fils + 1]] < this.cles[this.tas[fils]]) {
+                fils++;
+            }
+            if (this.cles[this.tas[fils]] >= cle) {
+                break;
+            }
+            this.tas[i] = this.tas[fils];
+            this.position[this.tas[i]] = i;
+            i = fils;
+        }
+        this.tas[i] = noeud;
+        this.position[noeud] = i;
+    }
+}
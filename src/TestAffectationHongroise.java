@@ -0,0 +1,102 @@
+import objets.AffectationHongroise;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Vérification de {@link AffectationHongroise} par énumération exhaustive sur de petites matrices
+ * aléatoires, carrées ou rectangulaires, dont certains coûts sont infinis (couples interdits).
+ * L'affectation attendue forme d'abord le plus grand nombre possible de couples autorisés,
+ * puis minimise la somme de leurs coûts.
+ */
+public class TestAffectationHongroise {
+
+    private static final int NB_MATRICES = 3000;
+    private static final int TAILLE_MAX = 6;
+    private static final double TOLERANCE = 1e-9;
+
+    public static void main(String[] args) {
+        long graine = args.length > 0 ? Long.parseLong(args[0]) : 42;
+        Random aleatoire = new Random(graine);
+        for (int essai = 0; essai < NB_MATRICES; essai++) {
+            int nbLignes = 1 + aleatoire.nextInt(TAILLE_MAX);
+            int nbColonnes = 1 + aleatoire.nextInt(TAILLE_MAX);
+            double probaInterdit = aleatoire.nextInt(3) * 0.2;
+            boolean entiers = aleatoire.nextBoolean(); // Les coûts entiers multiplient les optimums ex aequo
+            double[][] couts = new double[nbLignes][nbColonnes];
+            for (int i = 0; i < nbLignes; i++) {
+                for (int j = 0; j < nbColonnes; j++) {
+                    if (aleatoire.nextDouble() < probaInterdit) {
+                        couts[i][j] = Double.POSITIVE_INFINITY;
+                    } else {
+                        couts[i][j] = entiers ? aleatoire.nextInt(10) : aleatoire.nextDouble() * 100;
+                    }
+                }
+            }
+
+            int[] affectation = AffectationHongroise.resout(couts);
+            int nbCouples = 0;
+            double cout = 0;
+            boolean[] colonneUtilisee = new boolean[nbColonnes];
+            for (int i = 0; i < nbLignes; i++) {
+                int j = affectation[i];
+                if (j == -1) {
+                    continue;
+                }
+                if (j < 0 || j >= nbColonnes || colonneUtilisee[j] || couts[i][j] == Double.POSITIVE_INFINITY) {
+                    echec(essai, couts, "ligne " + i + " affectée à une colonne invalide, déjà prise ou interdite : " + j);
+                }
+                colonneUtilisee[j] = true;
+                nbCouples++;
+                cout += couts[i][j];
+            }
+
+            Optimum optimum = new Optimum();
+            enumere(couts, 0, new boolean[nbColonnes], 0, 0, optimum);
+            if (nbCouples != optimum.nbCouples || Math.abs(cout - optimum.cout) > TOLERANCE) {
+                echec(essai, couts, nbCouples + " couples de coût " + cout + " au lieu de "
+                        + optimum.nbCouples + " couples de coût " + optimum.cout);
+            }
+        }
+        System.out.println("AffectationHongroise : " + NB_MATRICES + " matrices conformes (graine " + graine + ")");
+    }
+
+    /**
+     * Meilleure affectation trouvée par l'énumération.
+     */
+    private static final class Optimum {
+        int nbCouples = -1;
+        double cout;
+    }
+
+    /**
+     * Essaie, pour chaque ligne à partir de la ligne donnée, toutes les colonnes libres et autorisées
+     * ainsi que l'absence d'affectation.
+     */
+    private static void enumere(double[][] couts, int ligne, boolean[] colonneUtilisee, int nbCouples, double cout,
+                                Optimum optimum) {
+        if (ligne == couts.length) {
+            if (nbCouples > optimum.nbCouples || (nbCouples == optimum.nbCouples && cout < optimum.cout)) {
+                optimum.nbCouples = nbCouples;
+                optimum.cout = cout;
+            }
+            return;
+        }
+        enumere(couts, ligne + 1, colonneUtilisee, nbCouples, cout, optimum);
+        for (int j = 0; j < colonneUtilisee.length; j++) {
+            if (!colonneUtilisee[j] && couts[ligne][j] != Double.POSITIVE_INFINITY) {
+                colonneUtilisee[j] = true;
+                enumere(couts, ligne + 1, colonneUtilisee, nbCouples + 1, cout + couts[ligne][j], optimum);
+                colonneUtilisee[j] = false;
+            }
+        }
+    }
+
+    private static void echec(int essai, double[][] couts, String message) {
+        System.out.println("Échec sur la matrice " + essai + " : " + message);
+        for (double[] ligne : couts) {
+            System.out.println("  " + Arrays.toString(ligne));
+        }
+        System.exit(1);
+    }
+}
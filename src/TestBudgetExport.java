@@ -0,0 +1,110 @@
+import affichage.ExportateurImages;
+import affichage.RenduVide;
+import simulation.ContexteSimulation;
+import simulation.SimulateurBatch;
+import simulation.SimulateurExport;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+
+/**
+ * Vérification du budget de l'export d'images : une simulation qui exporte ses images
+ * ne doit pas être ralentie, par rapport à la même simulation sans export, de plus que la part du
+ * temps écoulé fixée par le budget. Les durées comparées sont des médianes, mesurées après des répétitions
+ * d'échauffement qui écartent le temps de compilation à la volée. L'écart toléré couvre l'image en cours d'encodage quand le budget
+ * est atteint, ainsi qu'une part de la durée sans export pour le bruit de mesure et le partage des caches
+ * entre fils, qu'aucun des deux fils ne se voit compter.
+ * Utilisation : java TestBudgetExport [fichier.map [budget]]
+ */
+public class TestBudgetExport {
+
+    private static final int NB_MESURES = 5; // Mesures retenues, après autant de répétitions d'échauffement
+    private static final int NB_SIMULATIONS = 5; // Simulations enchaînées par mesure, pour une durée mesurable
+    private static final int TAILLE_CASE = 4; // Images petites, pour que de nombreuses images soient écrites
+    private static final double MARGE = 0.1; // Part de la durée sans export tolérée pour le bruit de mesure
+
+    public static void main(String[] args) throws DataFormatException, IOException {
+        String fichier = args.length > 0 ? args[0] : "cartes/spiralOfMadness-50x50.map";
+        double budget = args.length > 1 ? Double.parseDouble(args[1]) : 0.25;
+        int nbFils = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        File repertoire = Files.createTempDirectory("export").toFile();
+
+        // Les premières répétitions servent à la compilation à la volée ; seules les suivantes sont mesurées.
+        long[] sansExport = new long[NB_MESURES];
+        long[] avecExport = new long[NB_MESURES];
+        long[] surcouts = new long[NB_MESURES];
+        ExportateurImages dernier = null;
+        for (int r = -NB_MESURES; r < NB_MESURES; r++) {
+            long base = simule(fichier, null);
+            ExportateurImages exportateur = new ExportateurImages(repertoire, charge(fichier).getCarte(), TAILLE_CASE,
+                    nbFils, 4 * nbFils, budget);
+            long duree = simule(fichier, exportateur);
+            long avantFermeture = System.nanoTime();
+            exportateur.close();
+            // Les encodages encore en cours à la fin de la simulation font partie du surcoût.
+            duree += System.nanoTime() - avantFermeture;
+            if (r >= 0) {
+                sansExport[r] = base;
+                avecExport[r] = duree;
+                surcouts[r] = duree - base;
+                dernier = exportateur;
+            }
+        }
+        for (File image : repertoire.listFiles()) {
+            image.delete();
+        }
+        repertoire.delete();
+
+        long surcout = mediane(surcouts);
+        long base = mediane(sansExport);
+        long total = mediane(avecExport);
+        long imageMoyenne = dernier.getNbImages() == 0 ? 0 : dernier.getTempsExport() / dernier.getNbImages();
+        long tolere = (long) (budget * total + MARGE * base) + imageMoyenne;
+        System.out.printf("Sans export : %.1f ms, avec export : %.1f ms, surcoût : %.1f ms, toléré : %.1f ms%n",
+                base / 1e6, total / 1e6, surcout / 1e6, tolere / 1e6);
+        System.out.printf("Images écrites : %d, abandonnées : %d, temps d'export compté : %.1f ms%n",
+                dernier.getNbImages(), dernier.getNbAbandonnees(), dernier.getTempsExport() / 1e6);
+        if (surcout > tolere) {
+            System.out.println("Échec : le surcoût de l'export dépasse le budget de " + budget);
+            System.exit(1);
+        }
+        System.out.println("Budget d'export respecté (" + budget + ")");
+    }
+
+    private static long mediane(long[] valeurs) {
+        long[] triees = valeurs.clone();
+        Arrays.sort(triees);
+        return triees[triees.length / 2];
+    }
+
+    private static ContexteSimulation charge(String fichier) throws DataFormatException, IOException {
+        return ContexteSimulation.charge(fichier,
+                new RenduVide(SimulateurBatch.TAILLE_FENETRE, SimulateurBatch.TAILLE_FENETRE), "avancee");
+    }
+
+    /**
+     * Simule plusieurs fois une carte jusqu'à son terme, en exportant une image toutes les
+     * {@link SimulateurExport#PERIODE} unités de temps si un exportateur est donné, et retourne la durée des simulations seules, chargements exclus.
+     */
+    private static long simule(String fichier, ExportateurImages exportateur) throws DataFormatException, IOException {
+        long duree = 0;
+        for (int s = 0; s < NB_SIMULATIONS; s++) {
+            ContexteSimulation contexte = charge(fichier);
+            long debut = System.nanoTime();
+            contexte.attribue();
+            long prochaine = SimulateurExport.PERIODE;
+            while (!contexte.simulationTerminee()) {
+                contexte.next();
+                if (exportateur != null && contexte.getDateSimulation() >= prochaine) {
+                    exportateur.exporte(contexte::capture);
+                    prochaine = (contexte.getDateSimulation() / SimulateurExport.PERIODE + 1) * SimulateurExport.PERIODE;
+                }
+            }
+            duree += System.nanoTime() - debut;
+        }
+        return duree;
+    }
+}
@@ -0,0 +1,79 @@
+import simulation.TableIndexee;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Vérification de {@link TableIndexee} par comparaison avec une {@link HashMap} : une suite aléatoire
+ * d'ajouts, de retraits et de recherches sur un petit ensemble de clés, qui provoque de nombreuses
+ * collisions et des séquences de sondage faisant le tour de la table.
+ */
+public class TestTableIndexee {
+
+    private static final int NB_MOUVEMENTS = 20000;
+    private static final int NB_CLES = 64; // Clés tirées dans [0, NB_CLES[
+
+    public static void main(String[] args) {
+        long graine = args.length > 0 ? Long.parseLong(args[0]) : 42;
+        Random aleatoire = new Random(graine);
+        TableIndexee<Integer> table = new TableIndexee<>();
+        Map<Integer, Integer> reference = new HashMap<>();
+
+        for (int mouvement = 0; mouvement < NB_MOUVEMENTS; mouvement++) {
+            int cle = aleatoire.nextInt(NB_CLES);
+            // Les retraits sont un peu plus fréquents que les ajouts dans une phase sur deux,
+            // pour que la table se remplisse et se vide plusieurs fois.
+            boolean phaseRetrait = (mouvement / 2000) % 2 == 1;
+            int tirage = aleatoire.nextInt(10);
+            Integer obtenu;
+            Integer attendu;
+            if (tirage < (phaseRetrait ? 3 : 6)) {
+                int valeur = aleatoire.nextInt();
+                obtenu = table.ajoute(cle, valeur);
+                attendu = reference.put(cle, valeur);
+            } else if (tirage < 9) {
+                obtenu = table.retire(cle);
+                attendu = reference.remove(cle);
+            } else {
+                obtenu = table.get(cle);
+                attendu = reference.get(cle);
+            }
+            if (!Objects.equals(obtenu, attendu)) {
+                echec(mouvement, "clé " + cle + " : " + obtenu + " au lieu de " + attendu);
+            }
+            verifie(table, reference, mouvement);
+        }
+        System.out.println("TableIndexee : " + NB_MOUVEMENTS + " mouvements conformes (graine " + graine + ")");
+    }
+
+    /**
+     * Compare tout le contenu de la table à la référence.
+     */
+    private static void verifie(TableIndexee<Integer> table, Map<Integer, Integer> reference, int mouvement) {
+        if (table.getTaille() != reference.size()) {
+            echec(mouvement, "taille " + table.getTaille() + " au lieu de " + reference.size());
+        }
+        for (int cle = 0; cle < NB_CLES; cle++) {
+            if (!Objects.equals(table.get(cle), reference.get(cle))) {
+                echec(mouvement, "clé " + cle + " : " + table.get(cle) + " au lieu de " + reference.get(cle));
+            }
+        }
+        int[] nbVisitees = {0};
+        table.pourChaque((cle, valeur) -> {
+            nbVisitees[0]++;
+            if (!valeur.equals(reference.get(cle))) {
+                echec(mouvement, "parcours : clé " + cle + " associée à " + valeur);
+            }
+        });
+        if (nbVisitees[0] != reference.size()) {
+            echec(mouvement, "parcours de " + nbVisitees[0] + " entrées au lieu de " + reference.size());
+        }
+    }
+
+    private static void echec(int mouvement, String message) {
+        System.out.println("Échec au mouvement " + mouvement + " : " + message);
+        System.exit(1);
+    }
+}
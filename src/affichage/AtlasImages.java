@@ -0,0 +1,142 @@
+package affichage;
+
+import objets.Case.natureTerrain;
+import objets.Robot.typeRobot;
+
+import javax.imageio.ImageIO;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Atlas des images de la simulation (terrains, incendie, robots), mises à la taille des cases.
+ * Chaque fichier du répertoire Images/ est décodé une seule fois pour tout le programme ;
+ * chaque atlas en garde ensuite une copie redimensionnée à sa taille de case, qui n'est recalculée
+ * que lorsque cette taille change. Dessiner une tuile se réduit ainsi à une copie de pixels,
+ * sans décodage ni mise à l'échelle.
+ */
+public class AtlasImages {
+
+    /**
+     * Répertoire des images.
+     */
+    private static final String REPERTOIRE = "Images/";
+
+    /**
+     * Images décodées, par nom de fichier, partagées par tous les atlas.
+     */
+    private static final Map<String, BufferedImage> DECODEES = new ConcurrentHashMap<>();
+
+    private static final natureTerrain[] NATURES = natureTerrain.values();
+    private static final typeRobot[] TYPES = typeRobot.values();
+
+    private int tailleCase; // Taille des images redimensionnées, en pixels
+    private final BufferedImage[] terrains = new BufferedImage[NATURES.length]; // Indexées par ordinal
+    private final BufferedImage[] robots = new BufferedImage[TYPES.length]; // Indexées par ordinal
+    private BufferedImage incendie;
+
+    /**
+     * Constructeur d'un atlas vide ; les images sont préparées par {@link #setTailleCase(int)}.
+     */
+    public AtlasImages() {
+    }
+
+    /**
+     * Retourne la taille des images de l'atlas.
+     *
+     * @return La taille d'une case, en pixels.
+     */
+    public synchronized int getTailleCase() {
+        return this.tailleCase;
+    }
+
+    /**
+     * Fixe la taille des cases. Les images sont redimensionnées seulement si la taille a changé.
+     *
+     * @param tailleCase La nouvelle taille d'une case, en pixels.
+     */
+    public synchronized void setTailleCase(int tailleCase) {
+        if (tailleCase == this.tailleCase) {
+            return;
+        }
+        this.tailleCase = tailleCase;
+        for (natureTerrain nature : NATURES) {
+            this.terrains[nature.ordinal()] = redimensionne(nature.name(), tailleCase);
+        }
+        for (typeRobot type : TYPES) {
+            this.robots[type.ordinal()] = redimensionne(type.name(), tailleCase);
+        }
+        this.incendie = redimensionne("feu", tailleCase);
+    }
+
+    /**
+     * Retourne l'image d'un terrain.
+     *
+     * @param nature La nature du terrain.
+     * @return L'image à la taille des cases, ou null si elle est indisponible.
+     */
+    public synchronized BufferedImage getTerrain(natureTerrain nature) {
+        return this.terrains[nature.ordinal()];
+    }
+
+    /**
+     * Retourne l'image d'un incendie.
+     *
+     * @return L'image à la taille des cases, ou null si elle est indisponible.
+     */
+    public synchronized BufferedImage getIncendie() {
+        return this.incendie;
+    }
+
+    /**
+     * Retourne l'image d'un type de robot.
+     *
+     * @param type Le type du robot.
+     * @return L'image à la taille des cases, ou null si elle est indisponible.
+     */
+    public synchronized BufferedImage getRobot(typeRobot type) {
+        return this.robots[type.ordinal()];
+    }
+
+    /**
+     * Retourne une image décodée à sa taille d'origine, en la décodant au premier appel.
+     *
+     * @param nom Le nom du fichier, sans répertoire ni extension.
+     * @return L'image, ou null si elle est illisible.
+     */
+    static BufferedImage decode(String nom) {
+        return DECODEES.computeIfAbsent(nom, n -> {
+            try {
+                return ImageIO.read(new File(REPERTOIRE + n + ".png"));
+            } catch (IOException e) {
+                // Une image illisible n'est pas dessinée, comme avec gui.ImageElement.
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Produit une copie carrée d'une image, à la taille demandée.
+     */
+    private static BufferedImage redimensionne(String nom, int taille) {
+        BufferedImage source = decode(nom);
+        if (source == null || taille <= 0) {
+            return null;
+        }
+        BufferedImage image = new BufferedImage(taille, taille, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Src);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(source, 0, 0, taille, taille, null);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+}
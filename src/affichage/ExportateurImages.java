@@ -0,0 +1,267 @@
+package affichage;
+
+import objets.Carte;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Export hors écran d'une simulation sous forme d'une suite d'images PNG, avec les mêmes images
+ * de terrains, d'incendies et de robots que la fenêtre graphique. Chaque fichier porte la date de
+ * simulation de son instantané (image-000000000000.png, image-000000000010.png, ...) : l'ordre
+ * alphabétique des fichiers est l'ordre chronologique, et une image abandonnée laisse un trou
+ * dans les dates au lieu de décaler les images suivantes.
+ * <p>
+ * Le fil de la simulation ne fait que composer chaque image à partir d'un {@link Instantane} ;
+ * l'encodage PNG, bien plus coûteux, est confié à un groupe de fils disposant d'une file bornée.
+ * Une image est abandonnée, avant même d'être composée, lorsque la file est pleine ou lorsque le temps
+ * d'export dépasse la fraction du temps écoulé fixée par le budget. Ce temps d'export compte à la fois
+ * le temps passé par le fil de la simulation à composer les images et le temps processeur des fils
+ * d'encodage, qui partagent les processeurs avec la simulation.
+ */
+public class ExportateurImages implements Closeable {
+
+    private final File repertoire; // Répertoire des images produites
+    private final GrilleTuiles grille; // Composition des images, hors écran
+    private final int largeur; // Largeur des images, en pixels
+    private final int hauteur; // Hauteur des images, en pixels
+    private final double budget; // Part maximale du temps de simulation consacrée à l'export
+    private final ThreadPoolExecutor encodeurs; // Fils d'encodage, alimentés par une file bornée
+    private final Semaphore places; // Images en attente ou en cours d'encodage, au plus la file plus les fils
+    private final long debut; // Date de création, en nanosecondes
+
+    private long tempsExport; // Temps passé par le fil de la simulation dans l'export, en nanosecondes
+    private final LongAdder tempsEncodage = new LongAdder(); // Temps processeur des encodeurs, en nanosecondes
+    private final AtomicInteger nbEncodees = new AtomicInteger(); // Nombre d'encodages terminés
+    private int nbImages; // Nombre d'images confiées aux encodeurs
+    private int nbAbandonnees; // Nombre d'images abandonnées
+    private final AtomicInteger nbErreurs = new AtomicInteger(); // Nombre d'images qui n'ont pu être écrites
+    private volatile IOException premiereErreur; // Première erreur d'écriture rencontrée
+
+    /**
+     * Prépare l'export d'une simulation et dessine le terrain de sa carte.
+     *
+     * @param repertoire   Le répertoire où écrire les images ; il est créé si nécessaire.
+     * @param carte        La carte de la simulation.
+     * @param tailleCase   La taille d'une case dans les images, en pixels.
+     * @param nbFils       Le nombre de fils d'encodage.
+     * @param capaciteFile Le nombre maximal d'images en attente d'encodage.
+     * @param budget       La part maximale du temps de simulation consacrée à l'export, entre 0 et 1.
+     * @throws IOException Si le répertoire ne peut pas être créé.
+     */
+    public ExportateurImages(File repertoire, Carte carte, int tailleCase, int nbFils, int capaciteFile, double budget)
+            throws IOException {
+        if (tailleCase <= 0 || nbFils <= 0 || capaciteFile <= 0 || budget <= 0 || budget > 1) {
+            throw new IllegalArgumentException("Paramètres d'export invalides : la taille des cases, le nombre de fils "
+                    + "et la capacité de la file doivent être positifs, le budget compris entre 0 exclu et 1.");
+        }
+        if (!repertoire.isDirectory() && !repertoire.mkdirs()) {
+            throw new IOException("Impossible de créer le répertoire " + repertoire);
+        }
+        this.repertoire = repertoire;
+        this.largeur = carte.getNbColonnes() * tailleCase;
+        this.hauteur = carte.getNbLignes() * tailleCase;
+        AtlasImages atlas = new AtlasImages();
+        atlas.setTailleCase(tailleCase);
+        this.grille = new GrilleTuiles(this.largeur, this.hauteur, atlas);
+        this.grille.peintFond(carte);
+        this.budget = budget;
+        this.encodeurs = new ThreadPoolExecutor(nbFils, nbFils, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capaciteFile), runnable -> {
+                    Thread fil = new Thread(runnable, "encodeur-png");
+                    fil.setDaemon(true);
+                    return fil;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        // Une place par image encodée ou en file : tant qu'une place est prise, l'exécuteur accepte la tâche.
+        this.places = new Semaphore(capaciteFile + nbFils);
+        this.encodeurs.prestartAllCoreThreads();
+        this.debut = System.nanoTime();
+    }
+
+    /**
+     * Exporte l'état courant d'une simulation, sauf si le budget de temps est épuisé ou si la file
+     * d'encodage est pleine. L'instantané n'est capturé que si l'image est retenue, et sa capture
+     * compte dans le temps d'export.
+     *
+     * @param capture La capture de l'état à exporter.
+     * @return true si l'image a été confiée aux encodeurs, false si elle a été abandonnée.
+     */
+    public boolean exporte(Supplier<Instantane> capture) {
+        long avant = System.nanoTime();
+        if (budgetEpuise(avant) || !this.places.tryAcquire()) {
+            this.nbAbandonnees++;
+            return false;
+        }
+        Instantane instantane = capture.get();
+        boolean acceptee = soumet(compose(instantane), instantane.getDate());
+        this.tempsExport += System.nanoTime() - avant;
+        return acceptee;
+    }
+
+    /**
+     * Exporte un instantané quels que soient le budget et l'état de la file, en attendant
+     * si nécessaire qu'une place se libère. Sert à garantir l'image finale d'une simulation.
+     *
+     * @param instantane L'état à exporter.
+     */
+    public void exporteToujours(Instantane instantane) {
+        long avant = System.nanoTime();
+        try {
+            this.places.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.nbAbandonnees++;
+            return;
+        }
+        soumet(compose(instantane), instantane.getDate());
+        this.tempsExport += System.nanoTime() - avant;
+    }
+
+    /**
+     * Retourne le nombre d'images confiées aux encodeurs.
+     *
+     * @return Le nombre d'images exportées.
+     */
+    public int getNbImages() {
+        return this.nbImages;
+    }
+
+    /**
+     * Retourne le nombre d'images abandonnées, faute de budget ou de place dans la file.
+     *
+     * @return Le nombre d'images abandonnées.
+     */
+    public int getNbAbandonnees() {
+        return this.nbAbandonnees;
+    }
+
+    /**
+     * Retourne le temps consacré à l'export : celui passé par le fil de la simulation à composer
+     * les images, plus le temps processeur des encodages terminés.
+     *
+     * @return Le temps d'export, en nanosecondes.
+     */
+    public long getTempsExport() {
+        return this.tempsExport + this.tempsEncodage.sum();
+    }
+
+    /**
+     * Retourne le temps processeur des encodages terminés.
+     *
+     * @return Le temps d'encodage, en nanosecondes.
+     */
+    public long getTempsEncodage() {
+        return this.tempsEncodage.sum();
+    }
+
+    /**
+     * Attend la fin de l'encodage des images en attente et arrête les encodeurs.
+     *
+     * @throws IOException Si une image n'a pas pu être écrite.
+     */
+    @Override
+    public void close() throws IOException {
+        this.encodeurs.shutdown();
+        try {
+            this.encodeurs.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (this.premiereErreur != null) {
+            throw new IOException(this.nbErreurs.get() + " image(s) non écrite(s)", this.premiereErreur);
+        }
+    }
+
+    /**
+     * Indique si le temps d'export dépasse le budget. Les images en attente d'encodage sont comptées
+     * pour le temps moyen d'un encodage, afin qu'une rafale d'images acceptées avant la fin du premier
+     * encodage ne dépasse pas le budget ; tant qu'aucun encodage n'est terminé, une seule image est en cours.
+     */
+    private boolean budgetEpuise(long maintenant) {
+        int encodees = this.nbEncodees.get();
+        int enAttente = this.nbImages - encodees;
+        if (encodees == 0) {
+            return enAttente > 0;
+        }
+        long encodage = this.tempsEncodage.sum();
+        long prevu = this.tempsExport + encodage + enAttente * (encodage / encodees);
+        return prevu > this.budget * (maintenant - this.debut);
+    }
+
+    /**
+     * Compose l'image d'un instantané dans une nouvelle image, qui appartient ensuite à l'encodeur.
+     */
+    private BufferedImage compose(Instantane instantane) {
+        this.grille.affiche(instantane);
+        BufferedImage image = new BufferedImage(this.largeur, this.hauteur, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            this.grille.paint(g);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * Confie aux encodeurs l'image d'une date de simulation, écrite dans un fichier nommé d'après cette date.
+     * Une place doit avoir été prise ; elle est rendue à la fin de l'encodage.
+     */
+    private boolean soumet(BufferedImage image, long date) {
+        File fichier = new File(this.repertoire, String.format("image-%012d.png", date));
+        try {
+            this.encodeurs.execute(() -> {
+                try {
+                    ecrit(image, fichier);
+                } finally {
+                    this.places.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Impossible tant que les places sont respectées, sauf après close.
+            this.places.release();
+            this.nbAbandonnees++;
+            return false;
+        }
+        this.nbImages++;
+        return true;
+    }
+
+    private void ecrit(BufferedImage image, File fichier) {
+        long avant = tempsProcesseur();
+        try {
+            if (!ImageIO.write(image, "png", fichier)) {
+                throw new IOException("Aucun encodeur PNG disponible");
+            }
+        } catch (IOException e) {
+            if (this.nbErreurs.getAndIncrement() == 0) {
+                this.premiereErreur = e;
+            }
+        } finally {
+            this.tempsEncodage.add(tempsProcesseur() - avant);
+            this.nbEncodees.incrementAndGet();
+        }
+    }
+
+    /**
+     * Temps processeur du fil courant, ou à défaut le temps réel, en nanosecondes.
+     */
+    private static long tempsProcesseur() {
+        ThreadMXBean fils = ManagementFactory.getThreadMXBean();
+        return fils.isCurrentThreadCpuTimeSupported() ? fils.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+}
@@ -0,0 +1,309 @@
+package affichage;
+
+import gui.GraphicalElement;
+import objets.Carte;
+import objets.Case.natureTerrain;
+import objets.Robot.typeRobot;
+
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Élément graphique unique représentant toute la grille de la simulation, en trois couches superposées :
+ * le terrain, les incendies et les robots. Chaque case possède un emplacement par couche ;
+ * un dessin ne fait que modifier un emplacement et marquer la tuile comme sale. Lors de l'affichage,
+ * seules les tuiles sales sont redessinées dans une image tampon, qui est ensuite copiée d'un bloc.
+ * Le nombre d'éléments graphiques reste ainsi constant quelle que soit la durée de la simulation.
+ * <p>
+ * Le terrain, qui ne change pas pendant une simulation, est rastérisé une fois pour toutes dans une image
+ * de fond : redessiner une tuile revient à en recopier la zone, puis à y poser l'incendie et le robot.
+ */
+class GrilleTuiles implements GraphicalElement {
+
+    private final int nbLignes; // Nombre de lignes de tuiles
+    private final int nbColonnes; // Nombre de colonnes de tuiles
+    private final int tailleCase; // Taille d'une tuile en pixels
+
+    /**
+     * Couche terrain : nature de chaque tuile, ou null si la case n'a pas été dessinée.
+     */
+    private final natureTerrain[] terrains;
+
+    /**
+     * Image de fond contenant le terrain de toutes les tuiles.
+     */
+    private final BufferedImage fond;
+
+    /**
+     * Couche incendies : tuiles portant un incendie.
+     */
+    private final BitSet incendies;
+
+    /**
+     * Couche robots : type du robot de chaque tuile, ou null.
+     */
+    private final typeRobot[] robots;
+
+    /**
+     * Tuiles modifiées depuis le dernier affichage.
+     */
+    private final BitSet sales;
+
+    /**
+     * Indique que tout le fond a été repeint et doit être recopié d'un bloc dans le tampon.
+     */
+    private boolean fondModifie;
+
+    /**
+     * Dernier instantané affiché, dont les incendies et robots sont à retirer au suivant.
+     */
+    private Instantane precedent;
+
+    /**
+     * Image tampon contenant le dernier état affiché de toutes les tuiles.
+     */
+    private final BufferedImage tampon;
+
+    /**
+     * Images des tuiles, à la taille des cases.
+     */
+    private final AtlasImages atlas;
+
+    /**
+     * Construit une grille vide couvrant une zone de dessin.
+     *
+     * @param largeur    La largeur de la zone de dessin, en pixels.
+     * @param hauteur    La hauteur de la zone de dessin, en pixels.
+     * @param atlas      Les images des tuiles ; sa taille de case est celle des tuiles.
+     */
+    GrilleTuiles(int largeur, int hauteur, AtlasImages atlas) {
+        int tailleCase = atlas.getTailleCase();
+        this.atlas = atlas;
+        this.tailleCase = tailleCase;
+        this.nbColonnes = tailleCase > 0 ? (largeur + tailleCase - 1) / tailleCase : 0;
+        this.nbLignes = tailleCase > 0 ? (hauteur + tailleCase - 1) / tailleCase : 0;
+        int nbTuiles = this.nbLignes * this.nbColonnes;
+        this.terrains = new natureTerrain[nbTuiles];
+        this.robots = new typeRobot[nbTuiles];
+        this.incendies = new BitSet(nbTuiles);
+        this.sales = new BitSet(nbTuiles);
+        this.fond = nbTuiles > 0 ? nouvelleImage() : null;
+        this.tampon = nbTuiles > 0 ? nouvelleImage() : null;
+    }
+
+    /**
+     * Rastérise le terrain de toute une carte dans l'image de fond, en retirant incendies et robots.
+     *
+     * @param carte La carte à dessiner.
+     */
+    synchronized void peintFond(Carte carte) {
+        if (this.fond == null) {
+            return;
+        }
+        int lignes = Math.min(this.nbLignes, carte.getNbLignes());
+        int colonnes = Math.min(this.nbColonnes, carte.getNbColonnes());
+        Graphics2D g = this.fond.createGraphics();
+        try {
+            for (int ligne = 0; ligne < lignes; ligne++) {
+                for (int colonne = 0; colonne < colonnes; colonne++) {
+                    peintTerrain(g, ligne * this.nbColonnes + colonne, carte.getNatureTerrain(ligne, colonne));
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+        this.incendies.clear();
+        Arrays.fill(this.robots, null);
+        this.precedent = null;
+        this.fondModifie = true;
+    }
+
+    /**
+     * Place un terrain sur une tuile. Comme s'il était peint par-dessus,
+     * il recouvre l'incendie et le robot éventuellement présents.
+     *
+     * @param ligne   La ligne de la tuile.
+     * @param colonne La colonne de la tuile.
+     * @param nature  La nature du terrain.
+     */
+    synchronized void placeTerrain(int ligne, int colonne, natureTerrain nature) {
+        int indice = indice(ligne, colonne);
+        if (indice < 0) {
+            return;
+        }
+        if (this.terrains[indice] != nature) {
+            Graphics2D g = this.fond.createGraphics();
+            try {
+                peintTerrain(g, indice, nature);
+            } finally {
+                g.dispose();
+            }
+        }
+        this.incendies.clear(indice);
+        this.robots[indice] = null;
+        this.sales.set(indice);
+    }
+
+    /**
+     * Remplace les incendies et robots de l'instantané précédent par ceux d'un nouvel instantané.
+     * Seules les tuiles concernées par l'un ou l'autre sont marquées sales.
+     *
+     * @param instantane L'état à afficher.
+     */
+    synchronized void affiche(Instantane instantane) {
+        if (this.precedent != null) {
+            for (int i = 0; i < this.precedent.getNbIncendies(); i++) {
+                libere(this.precedent.getLigneIncendie(i), this.precedent.getColonneIncendie(i));
+            }
+            for (int i = 0; i < this.precedent.getNbRobots(); i++) {
+                libere(this.precedent.getLigneRobot(i), this.precedent.getColonneRobot(i));
+            }
+        }
+        for (int i = 0; i < instantane.getNbIncendies(); i++) {
+            placeIncendie(instantane.getLigneIncendie(i), instantane.getColonneIncendie(i));
+        }
+        for (int i = 0; i < instantane.getNbRobots(); i++) {
+            placeRobot(instantane.getLigneRobot(i), instantane.getColonneRobot(i), instantane.getTypeRobot(i));
+        }
+        this.precedent = instantane;
+    }
+
+    /**
+     * Retire l'incendie et le robot d'une tuile, sans toucher à son terrain.
+     *
+     * @param ligne   La ligne de la tuile.
+     * @param colonne La colonne de la tuile.
+     */
+    synchronized void libere(int ligne, int colonne) {
+        int indice = indice(ligne, colonne);
+        if (indice < 0 || (!this.incendies.get(indice) && this.robots[indice] == null)) {
+            return;
+        }
+        this.incendies.clear(indice);
+        this.robots[indice] = null;
+        this.sales.set(indice);
+    }
+
+    /**
+     * Place un incendie sur une tuile ; il recouvre le robot éventuellement présent.
+     *
+     * @param ligne   La ligne de la tuile.
+     * @param colonne La colonne de la tuile.
+     */
+    synchronized void placeIncendie(int ligne, int colonne) {
+        int indice = indice(ligne, colonne);
+        if (indice < 0) {
+            return;
+        }
+        this.incendies.set(indice);
+        this.robots[indice] = null;
+        this.sales.set(indice);
+    }
+
+    /**
+     * Place un robot sur une tuile, au-dessus des autres couches.
+     *
+     * @param ligne   La ligne de la tuile.
+     * @param colonne La colonne de la tuile.
+     * @param type    Le type du robot.
+     */
+    synchronized void placeRobot(int ligne, int colonne, typeRobot type) {
+        int indice = indice(ligne, colonne);
+        if (indice < 0) {
+            return;
+        }
+        this.robots[indice] = type;
+        this.sales.set(indice);
+    }
+
+    /**
+     * Met à jour l'image tampon, en y recopiant tout le fond s'il a été repeint puis en redessinant
+     * les tuiles sales, et affiche celle-ci.
+     *
+     * @param g2d Le contexte graphique du panneau.
+     */
+    @Override
+    public synchronized void paint(Graphics2D g2d) {
+        if (this.tampon == null) {
+            return;
+        }
+        if (this.fondModifie || !this.sales.isEmpty()) {
+            Graphics2D g = this.tampon.createGraphics();
+            try {
+                if (this.fondModifie) {
+                    g.setComposite(AlphaComposite.Src);
+                    g.drawImage(this.fond, 0, 0, null);
+                    g.setComposite(AlphaComposite.SrcOver);
+                    this.fondModifie = false;
+                }
+                for (int i = this.sales.nextSetBit(0); i >= 0; i = this.sales.nextSetBit(i + 1)) {
+                    redessineTuile(g, i);
+                }
+            } finally {
+                g.dispose();
+            }
+            this.sales.clear();
+        }
+        g2d.drawImage(this.tampon, 0, 0, null);
+    }
+
+    /**
+     * Recopie une tuile du fond dans le tampon puis y dessine l'incendie et le robot.
+     */
+    private void redessineTuile(Graphics2D g, int indice) {
+        int x = (indice % this.nbColonnes) * this.tailleCase;
+        int y = (indice / this.nbColonnes) * this.tailleCase;
+        int t = this.tailleCase;
+        Composite composite = g.getComposite();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(this.fond, x, y, x + t, y + t, x, y, x + t, y + t, null);
+        g.setComposite(composite);
+        if (this.incendies.get(indice)) {
+            dessineImage(g, this.atlas.getIncendie(), x, y);
+        }
+        if (this.robots[indice] != null) {
+            dessineImage(g, this.atlas.getRobot(this.robots[indice]), x, y);
+        }
+    }
+
+    /**
+     * Remplace le terrain d'une tuile dans l'image de fond.
+     */
+    private void peintTerrain(Graphics2D g, int indice, natureTerrain nature) {
+        int x = (indice % this.nbColonnes) * this.tailleCase;
+        int y = (indice / this.nbColonnes) * this.tailleCase;
+        Composite composite = g.getComposite();
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(x, y, this.tailleCase, this.tailleCase);
+        g.setComposite(composite);
+        dessineImage(g, this.atlas.getTerrain(nature), x, y);
+        this.terrains[indice] = nature;
+    }
+
+    /**
+     * Copie une image de l'atlas, déjà à la taille des tuiles ; une image indisponible n'est pas dessinée.
+     */
+    private static void dessineImage(Graphics2D g, BufferedImage image, int x, int y) {
+        if (image != null) {
+            g.drawImage(image, x, y, null);
+        }
+    }
+
+    private BufferedImage nouvelleImage() {
+        return new BufferedImage(this.nbColonnes * this.tailleCase, this.nbLignes * this.tailleCase, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    /**
+     * Retourne l'indice d'une tuile, ou -1 si elle est hors de la zone de dessin.
+     */
+    private int indice(int ligne, int colonne) {
+        if (ligne < 0 || ligne >= this.nbLignes || colonne < 0 || colonne >= this.nbColonnes) {
+            return -1;
+        }
+        return ligne * this.nbColonnes + colonne;
+    }
+}
@@ -0,0 +1,170 @@
+package affichage;
+
+import objets.Incendie;
+import objets.Robot;
+import objets.Robot.typeRobot;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Image figée de l'état d'une simulation à une date donnée : position et intensité des incendies,
+ * position et type des robots. Un instantané est immuable ; il peut donc être produit par le fil
+ * de la simulation et affiché par celui de l'interface graphique sans synchronisation.
+ */
+public final class Instantane {
+
+    private static final typeRobot[] TYPES = typeRobot.values();
+
+    private final long date; // Date de simulation de l'instantané
+    private final boolean termine; // true si la simulation n'a plus d'événement à exécuter
+    private final int[] incendies; // Indices des cases en feu
+    private final int[] intensites; // Quantité d'eau nécessaire pour éteindre chaque incendie
+    private final int[] robots; // Indices des cases des robots
+    private final byte[] typesRobots; // Ordinal du type de chaque robot
+    private final int nbColonnes; // Nombre de colonnes de la carte, pour décoder les indices
+
+    private Instantane(long date, boolean termine, int nbColonnes, int[] incendies, int[] intensites,
+                       int[] robots, byte[] typesRobots) {
+        this.date = date;
+        this.termine = termine;
+        this.nbColonnes = nbColonnes;
+        this.incendies = incendies;
+        this.intensites = intensites;
+        this.robots = robots;
+        this.typesRobots = typesRobots;
+    }
+
+    /**
+     * Capture l'état courant des incendies et des robots. Le coût est proportionnel
+     * à leur nombre, et non à la taille de la carte.
+     *
+     * @param date        La date de simulation.
+     * @param termine     true si la simulation est terminée.
+     * @param nbColonnes  Le nombre de colonnes de la carte.
+     * @param incendies   Les incendies en cours.
+     * @param robots      Les robots de la simulation.
+     * @return L'instantané.
+     */
+    public static Instantane capture(long date, boolean termine, int nbColonnes,
+                                     List<Incendie> incendies, List<Robot> robots) {
+        int[] casesIncendies = new int[incendies.size()];
+        int[] intensites = new int[incendies.size()];
+        for (int i = 0; i < casesIncendies.length; i++) {
+            Incendie incendie = incendies.get(i);
+            casesIncendies[i] = incendie.getCaseFeu().getLigne() * nbColonnes + incendie.getCaseFeu().getColonne();
+            intensites[i] = incendie.getNbEau();
+        }
+        int[] casesRobots = new int[robots.size()];
+        byte[] types = new byte[robots.size()];
+        int nbRobots = 0;
+        for (Robot robot : robots) {
+            if (robot.getCaseRobot() != null) {
+                casesRobots[nbRobots] = robot.getCaseRobot().getLigne() * nbColonnes + robot.getCaseRobot().getColonne();
+                types[nbRobots] = (byte) robot.getTypeRobot().ordinal();
+                nbRobots++;
+            }
+        }
+        if (nbRobots < casesRobots.length) {
+            casesRobots = Arrays.copyOf(casesRobots, nbRobots);
+            types = Arrays.copyOf(types, nbRobots);
+        }
+        return new Instantane(date, termine, nbColonnes, casesIncendies, intensites, casesRobots, types);
+    }
+
+    /**
+     * Retourne la date de simulation de l'instantané.
+     *
+     * @return La date.
+     */
+    public long getDate() {
+        return this.date;
+    }
+
+    /**
+     * Indique si la simulation était terminée au moment de la capture.
+     *
+     * @return true si plus aucun événement n'était planifié.
+     */
+    public boolean estTermine() {
+        return this.termine;
+    }
+
+    /**
+     * Retourne le nombre d'incendies.
+     *
+     * @return Le nombre d'incendies en cours.
+     */
+    public int getNbIncendies() {
+        return this.incendies.length;
+    }
+
+    /**
+     * Retourne la ligne d'un incendie.
+     *
+     * @param i Le numéro de l'incendie.
+     * @return La ligne de sa case.
+     */
+    public int getLigneIncendie(int i) {
+        return this.incendies[i] / this.nbColonnes;
+    }
+
+    /**
+     * Retourne la colonne d'un incendie.
+     *
+     * @param i Le numéro de l'incendie.
+     * @return La colonne de sa case.
+     */
+    public int getColonneIncendie(int i) {
+        return this.incendies[i] % this.nbColonnes;
+    }
+
+    /**
+     * Retourne l'intensité d'un incendie.
+     *
+     * @param i Le numéro de l'incendie.
+     * @return La quantité d'eau nécessaire pour l'éteindre.
+     */
+    public int getIntensite(int i) {
+        return this.intensites[i];
+    }
+
+    /**
+     * Retourne le nombre de robots placés sur la carte.
+     *
+     * @return Le nombre de robots.
+     */
+    public int getNbRobots() {
+        return this.robots.length;
+    }
+
+    /**
+     * Retourne la ligne d'un robot.
+     *
+     * @param i Le numéro du robot.
+     * @return La ligne de sa case.
+     */
+    public int getLigneRobot(int i) {
+        return this.robots[i] / this.nbColonnes;
+    }
+
+    /**
+     * Retourne la colonne d'un robot.
+     *
+     * @param i Le numéro du robot.
+     * @return La colonne de sa case.
+     */
+    public int getColonneRobot(int i) {
+        return this.robots[i] % this.nbColonnes;
+    }
+
+    /**
+     * Retourne le type d'un robot.
+     *
+     * @param i Le numéro du robot.
+     * @return Son type.
+     */
+    public typeRobot getTypeRobot(int i) {
+        return TYPES[this.typesRobots[i]];
+    }
+}
@@ -0,0 +1,70 @@
+package affichage;
+
+import objets.Carte;
+import objets.Case;
+import objets.Incendie;
+import objets.Robot;
+
+/**
+ * Interface décrivant la façon dont la simulation est affichée.
+ * Les objets de la simulation ne dessinent jamais directement : ils délèguent à un rendu,
+ * qui peut être l'interface graphique ({@link RenduGUI}) ou un rendu vide ({@link RenduVide})
+ * pour les exécutions sans affichage.
+ */
+public interface Rendu {
+
+    /**
+     * Retourne la largeur de la zone de dessin, en pixels.
+     *
+     * @return La largeur de la zone de dessin.
+     */
+    int getLargeur();
+
+    /**
+     * Retourne la hauteur de la zone de dessin, en pixels.
+     *
+     * @return La hauteur de la zone de dessin.
+     */
+    int getHauteur();
+
+    /**
+     * Efface tout le dessin et fixe la taille des cases pour les dessins suivants.
+     *
+     * @param tailleCase La taille d'une case, en pixels.
+     */
+    void efface(int tailleCase);
+
+    /**
+     * Dessine le terrain de toute la carte, en retirant les incendies et robots déjà dessinés.
+     * Le terrain ne changeant pas au cours d'une simulation, un rendu peut le préparer une fois pour toutes.
+     *
+     * @param carte La carte à dessiner.
+     */
+    void dessineCarte(Carte carte);
+
+    /**
+     * Dessine le terrain d'une case.
+     *
+     * @param caseDessin La case à dessiner.
+     */
+    void dessineCase(Case caseDessin);
+
+    /**
+     * Dessine un incendie sur sa case.
+     *
+     * @param incendie L'incendie à dessiner.
+     */
+    void dessineIncendie(Incendie incendie);
+
+    /**
+     * Dessine un robot sur sa case.
+     *
+     * @param robot Le robot à dessiner.
+     */
+    void dessineRobot(Robot robot);
+
+    /**
+     * Affiche l'écran de fin, lorsque tous les incendies sont éteints.
+     */
+    void dessineVictoire();
+}
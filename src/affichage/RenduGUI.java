@@ -0,0 +1,107 @@
+package affichage;
+
+import gui.GUISimulator;
+import gui.ImageElement;
+import objets.Carte;
+import objets.Case;
+import objets.Incendie;
+import objets.Robot;
+
+/**
+ * Rendu dans la fenêtre {@link GUISimulator}. La fenêtre ne contient qu'un seul élément graphique,
+ * une {@link GrilleTuiles} : chaque dessin met à jour l'emplacement de la case concernée dans la couche
+ * correspondante, et seules les tuiles modifiées sont redessinées à l'affichage suivant.
+ */
+public class RenduGUI implements Rendu {
+
+    private final GUISimulator gui; // Interface graphique dans laquelle dessiner
+    private final AtlasImages atlas = new AtlasImages(); // Images mises à la taille des cases
+    private GrilleTuiles grille; // Grille affichée, recréée à chaque effacement
+
+    /**
+     * Constructeur du rendu graphique.
+     *
+     * @param gui L'interface graphique dans laquelle dessiner.
+     */
+    public RenduGUI(GUISimulator gui) {
+        this.gui = gui;
+    }
+
+    /**
+     * Retourne l'interface graphique associée.
+     *
+     * @return L'instance de GUISimulator.
+     */
+    public GUISimulator getGui() {
+        return this.gui;
+    }
+
+    @Override
+    public int getLargeur() {
+        return this.gui.getPanelWidth();
+    }
+
+    @Override
+    public int getHauteur() {
+        return this.gui.getPanelHeight();
+    }
+
+    @Override
+    public void efface(int tailleCase) {
+        this.atlas.setTailleCase(tailleCase);
+        this.grille = new GrilleTuiles(getLargeur(), getHauteur(), this.atlas);
+        this.gui.reset();
+        this.gui.addGraphicalElement(this.grille);
+    }
+
+    @Override
+    public void dessineCarte(Carte carte) {
+        if (this.grille != null) {
+            this.grille.peintFond(carte);
+        }
+    }
+
+    @Override
+    public void dessineCase(Case caseDessin) {
+        if (this.grille != null) {
+            this.grille.placeTerrain(caseDessin.getLigne(), caseDessin.getColonne(), caseDessin.getNature());
+        }
+    }
+
+    @Override
+    public void dessineIncendie(Incendie incendie) {
+        if (this.grille != null) {
+            this.grille.placeIncendie(incendie.getCaseFeu().getLigne(), incendie.getCaseFeu().getColonne());
+        }
+    }
+
+    @Override
+    public void dessineRobot(Robot robot) {
+        Case caseRobot = robot.getCaseRobot();
+        if (caseRobot == null || this.grille == null) {
+            return;
+        }
+        this.grille.placeRobot(caseRobot.getLigne(), caseRobot.getColonne(), robot.getTypeRobot());
+    }
+
+    /**
+     * Affiche un instantané de la simulation par-dessus le terrain déjà dessiné.
+     * Seules les tuiles des incendies et robots de l'instantané précédent et de celui-ci sont redessinées.
+     *
+     * @param instantane L'état à afficher.
+     */
+    public void affiche(Instantane instantane) {
+        if (this.grille == null) {
+            return;
+        }
+        this.grille.affiche(instantane);
+        this.gui.repaint();
+    }
+
+    @Override
+    public void dessineVictoire() {
+        this.grille = null;
+        this.gui.reset();
+        this.gui.addGraphicalElement(new ImageElement(0, 0, "Images/Gagne.png", 800, 800, null));
+    }
+}
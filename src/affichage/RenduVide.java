@@ -0,0 +1,62 @@
+package affichage;
+
+import objets.Carte;
+import objets.Case;
+import objets.Incendie;
+import objets.Robot;
+
+/**
+ * Rendu qui ne dessine rien, utilisé pour exécuter des simulations sans affichage.
+ * Il conserve seulement des dimensions de zone de dessin, car la taille des cases
+ * qui en découle intervient dans le calcul des temps de déplacement.
+ */
+public class RenduVide implements Rendu {
+
+    private final int largeur; // Largeur simulée de la zone de dessin
+    private final int hauteur; // Hauteur simulée de la zone de dessin
+
+    /**
+     * Constructeur du rendu vide.
+     *
+     * @param largeur La largeur simulée de la zone de dessin, en pixels.
+     * @param hauteur La hauteur simulée de la zone de dessin, en pixels.
+     */
+    public RenduVide(int largeur, int hauteur) {
+        this.largeur = largeur;
+        this.hauteur = hauteur;
+    }
+
+    @Override
+    public int getLargeur() {
+        return this.largeur;
+    }
+
+    @Override
+    public int getHauteur() {
+        return this.hauteur;
+    }
+
+    @Override
+    public void efface(int tailleCase) {
+    }
+
+    @Override
+    public void dessineCarte(Carte carte) {
+    }
+
+    @Override
+    public void dessineCase(Case caseDessin) {
+    }
+
+    @Override
+    public void dessineIncendie(Incendie incendie) {
+    }
+
+    @Override
+    public void dessineRobot(Robot robot) {
+    }
+
+    @Override
+    public void dessineVictoire() {
+    }
+}
@@ -3,11 +3,10 @@ package evenements;
 import objets.Carte.Direction;
 
 import java.util.LinkedList;
+import objets.Carte;
+import objets.Incendie;
 import objets.Robot;
 import objets.Case;
-import simulation.Simulateur;
-
-import static objets.Carte.getVoisin;
 
 /**
  * Classe représentant le début d'un déplacement pour un robot dans une simulation.
@@ -93,6 +92,7 @@ public class DebutDeplacement extends Evenement {
      */
     public void execute() {
         Case caseCourante = this.robot.getCaseRobot();
+        Carte carte = getContexte().getCarte();
 
         if (direction == null) {
             LinkedList<Direction> deplacement = this.robot.getDeplacement();
@@ -103,24 +103,24 @@ public class DebutDeplacement extends Evenement {
             }
             double temps = 0;
             while (!deplacement.isEmpty()) {
-                caseCourante = getVoisin(caseCourante, deplacement.get(0));
+                caseCourante = carte.getVoisin(caseCourante, deplacement.get(0));
                 temps += this.robot.tempsChangement(this.robot.getCaseRobot());
                 if (caseCourante == null) {
                     throw new IllegalArgumentException("Le robot sort de la carte !!!");
                 }
-                Simulateur.ajouteEvenement(new FinDeplacement((super.getDate() + Math.round(temps) + 1), this.robot, caseCourante));
+                getContexte().ajouteEvenement(new FinDeplacement((super.getDate() + Math.round(temps) + 1), this.robot, caseCourante));
                 deplacement.remove();
             }
             temps = super.getDate() + Math.round(temps) + 2;
             AjouteEvenementApres(temps, caseCourante);
 
         } else {
-            caseCourante = getVoisin(caseCourante, this.direction);
+            caseCourante = carte.getVoisin(caseCourante, this.direction);
             double temps = this.robot.tempsChangement(this.robot.getCaseRobot());
             if (caseCourante == null) {
                 throw new IllegalArgumentException("Le robot sort de la carte !!!");
             }
-            Simulateur.ajouteEvenement(new FinDeplacement((long) (super.getDate() + Math.round(temps) + 1), this.robot, caseCourante));
+            getContexte().ajouteEvenement(new FinDeplacement((long) (super.getDate() + Math.round(temps) + 1), this.robot, caseCourante));
             temps = super.getDate() + Math.round(temps) + 2;
             AjouteEvenementApres(temps, caseCourante);
         }
@@ -134,9 +134,15 @@ public class DebutDeplacement extends Evenement {
      */
     private void AjouteEvenementApres(double temps, Case CaseIncendie) {
         if (this.InterventionApresDeplacement) {
-            Simulateur.ajouteEvenement(new DebutIntervention(Math.round(temps), this.robot, CaseIncendie));
+            // L'incendie visé est celui présent sur la case au moment où le robot part.
+            Incendie incendie = getContexte().getDonnees().getIncendie(CaseIncendie);
+            if (incendie != null) {
+                getContexte().ajouteEvenement(new DebutIntervention(Math.round(temps), this.robot, incendie));
+            } else {
+                getContexte().ajouteEvenement(new DebutIntervention(Math.round(temps), this.robot, CaseIncendie));
+            }
         } else if (this.RemplissageApresDeplacement) {
-            Simulateur.ajouteEvenement(new DebutRemplissage(Math.round(temps), this.robot));
+            getContexte().ajouteEvenement(new DebutRemplissage(Math.round(temps), this.robot));
         }
     }
 }
@@ -1,14 +1,9 @@
 package evenements;
 
-import objets.Carte;
 import objets.Robot;
 import objets.Case;
-import simulation.DonneesSimulation;
-import simulation.Simulateur;
 import objets.Incendie;
 
-import static simulation.DonneesSimulation.getListeIncendies;
-
 /**
  * Classe représentant le début d'une intervention pour un robot dans une simulation.
  * Une intervention correspond à l'action de traiter un incendie sur une case spécifique.
@@ -25,6 +20,11 @@ public class DebutIntervention extends Evenement {
      */
     private Incendie incendie;
 
+    /**
+     * La case de l'incendie, lorsque celui-ci doit être déterminé à l'exécution.
+     */
+    private final Case caseIncendie;
+
     /**
      * Constructeur pour une intervention avec un incendie spécifié.
      *
@@ -36,11 +36,13 @@ public class DebutIntervention extends Evenement {
         super(date);
         this.robot = robot;
         this.incendie = incendie;
+        this.caseIncendie = incendie.getCaseFeu();
         this.robot.setOccupe(true);
     }
 
     /**
-     * Constructeur pour une intervention en fonction d'une case, où l'incendie est déterminé automatiquement.
+     * Constructeur pour une intervention en fonction d'une case, où l'incendie est déterminé
+     * automatiquement au moment de l'exécution.
      *
      * @param date La date de début de l'intervention.
      * @param robot Le robot effectuant l'intervention.
@@ -49,22 +51,24 @@ public class DebutIntervention extends Evenement {
     public DebutIntervention(long date, Robot robot, Case caseIncendie) {
         super(date);
         this.robot = robot;
-
-        // Recherche de l'incendie correspondant à la case donnée.
-        for (Incendie i : getListeIncendies()) {
-            if (i.getCaseFeu() == caseIncendie) {
-                this.incendie = i;
-                break;
-            }
-        }
+        this.caseIncendie = caseIncendie;
         this.robot.setOccupe(true);
     }
 
     /**
      * Exécute l'intervention. Ajoute un événement de fin d'intervention une fois le traitement terminé.
+     * Si aucun incendie ne se trouve plus sur la case, le robot est simplement libéré.
      */
     public void execute() {
+        if (this.incendie == null) {
+            // Recherche de l'incendie correspondant à la case donnée.
+            this.incendie = getContexte().getDonnees().getIncendie(this.caseIncendie);
+            if (this.incendie == null) {
+                this.robot.setOccupe(false);
+                return;
+            }
+        }
         int temps = this.robot.getTempsIntervention();
-        Simulateur.ajouteEvenement(new FinIntervention((super.getDate() + temps), this.robot, this.incendie));
+        getContexte().ajouteEvenement(new FinIntervention((super.getDate() + temps), this.robot, this.incendie));
     }
 }
@@ -1,6 +1,5 @@
 package evenements;
 
-import simulation.Simulateur;
 import objets.Robot;
 
 /**
@@ -31,6 +30,6 @@ public class DebutRemplissage extends Evenement {
      * Programme un événement de fin de remplissage après la durée nécessaire pour compléter l'opération.
      */
     public void execute() {
-        Simulateur.ajouteEvenement(new FinRemplissage((super.getDate() + robot.getTempsRemplissage()), this.robot));
+        getContexte().ajouteEvenement(new FinRemplissage((super.getDate() + robot.getTempsRemplissage()), this.robot));
     }
 }
@@ -1,8 +1,11 @@
 package evenements;
 
+import simulation.ContexteSimulation;
+
 /**
  * Classe abstraite représentant un événement dans la simulation.
  * Chaque événement a une date d'exécution et doit définir une méthode d'exécution spécifique.
+ * Il est rattaché à la simulation qui l'a planifié, à travers laquelle il accède aux données.
  */
 public abstract class Evenement {
 
@@ -11,6 +14,11 @@ public abstract class Evenement {
      */
     private long date;
 
+    /**
+     * La simulation dans laquelle l'événement est planifié.
+     */
+    private ContexteSimulation contexte;
+
     /**
      * Constructeur pour initialiser un événement avec une date donnée.
      *
@@ -29,6 +37,24 @@ public abstract class Evenement {
         return this.date;
     }
 
+    /**
+     * Retourne la simulation dans laquelle l'événement est planifié.
+     *
+     * @return Le contexte de simulation de l'événement.
+     */
+    public ContexteSimulation getContexte() {
+        return this.contexte;
+    }
+
+    /**
+     * Rattache l'événement à une simulation. Appelé lorsque l'événement est planifié.
+     *
+     * @param contexte Le contexte de simulation de l'événement.
+     */
+    public void setContexte(ContexteSimulation contexte) {
+        this.contexte = contexte;
+    }
+
     /**
      * Méthode abstraite à implémenter par les sous-classes pour définir
      * le comportement spécifique de l'événement lors de son exécution.
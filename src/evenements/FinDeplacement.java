@@ -1,15 +1,11 @@
 package evenements;
 
-import java.util.ArrayList;
+import affichage.Rendu;
 import objets.Case;
 import objets.Incendie;
 import objets.Robot;
 import simulation.DonneesSimulation;
 
-import static objets.Case.drawCase;
-import static objets.Incendie.drawIncendie;
-import static objets.Robot.drawRobot;
-
 /**
  * Classe représentant la fin d'un déplacement pour un robot.
  * Cette classe gère la mise à jour de la position du robot sur la carte
@@ -49,39 +45,35 @@ public class FinDeplacement extends Evenement {
         Case caseRobot = this.robot.getCaseRobot();
         this.robot.deplaceRobot(this.nouvelleCase);
 
-        ArrayList<Incendie> incendies = DonneesSimulation.getListeIncendies();
+        DonneesSimulation donnees = getContexte().getDonnees();
+        Rendu rendu = getContexte().getRendu();
         boolean dessinerRobot = false;
         boolean dessinerIncendie = false;
 
         // Vérifie si un incendie est présent sur l'ancienne case du robot.
-        for (Incendie incendie : incendies) {
-            if (incendie.getCaseFeu() == caseRobot) {
-                drawCase(caseRobot);
-                drawIncendie(incendie);
-                dessinerIncendie = true;
-                break;
-            }
+        Incendie incendie = donnees.getIncendie(caseRobot);
+        if (incendie != null) {
+            rendu.dessineCase(caseRobot);
+            rendu.dessineIncendie(incendie);
+            dessinerIncendie = true;
         }
 
         // Vérifie si un autre robot est présent sur l'ancienne case.
-        ArrayList<Robot> robots = DonneesSimulation.getListeRobots();
-        for (Robot robot : robots) {
-            if (robot.getCaseRobot() == caseRobot) {
-                if (!dessinerIncendie) {
-                    drawCase(caseRobot);
-                }
-                drawRobot(robot);
-                dessinerRobot = true;
-                break;
+        Robot autreRobot = donnees.getOccupation().getPremierRobot(caseRobot);
+        if (autreRobot != null) {
+            if (!dessinerIncendie) {
+                rendu.dessineCase(caseRobot);
             }
+            rendu.dessineRobot(autreRobot);
+            dessinerRobot = true;
         }
 
         // Si aucun incendie ni robot n'est présent, redessine simplement la case.
         if (!dessinerRobot && !dessinerIncendie) {
-            drawCase(caseRobot);
+            rendu.dessineCase(caseRobot);
         }
 
         // Dessine le robot à sa nouvelle position.
-        drawRobot(this.robot);
+        rendu.dessineRobot(this.robot);
     }
 }
@@ -1,17 +1,11 @@
 package evenements;
 
+import affichage.Rendu;
 import objets.*;
 import simulation.DonneesSimulation;
-import simulation.Simulateur;
 
-import java.util.ArrayList;
 import java.util.LinkedList;
 
-import static objets.Case.drawCase;
-import static objets.Robot.drawRobot;
-import static simulation.DonneesSimulation.getListeIncendies;
-import static simulation.DonneesSimulation.getListeRobots;
-
 /**
  * Classe représentant la fin d'une intervention d'un robot sur un incendie.
  * Cette classe gère l'état du robot, la mise à jour des incendies et les étapes suivantes
@@ -49,6 +43,9 @@ public class FinIntervention extends Evenement {
      * - Planifie une nouvelle intervention ou un déplacement pour réapprovisionnement en eau.
      */
     public void execute() {
+        DonneesSimulation donnees = getContexte().getDonnees();
+        Rendu rendu = getContexte().getRendu();
+
         // Effectuer l'intervention sur l'incendie.
         this.robot.intervention(this.incendie);
 
@@ -57,40 +54,30 @@ public class FinIntervention extends Evenement {
             robot.setOccupe(false);
             this.incendie.setAttribue(false);
             Case caseRobot = this.robot.getCaseRobot();
-            ArrayList<Incendie> incendies = getListeIncendies();
-            incendies.remove(this.incendie);
+            donnees.retireIncendie(this.incendie);
 
             // Redessiner la case de l'incendie.
-            drawCase(incendie.getCaseFeu());
-
-            boolean dessiner = false;
-
-            // Vérifie si d'autres robots se trouvent sur la même case pour les redessiner.
-            ArrayList<Robot> robots = getListeRobots();
-            for (Robot robot : robots) {
-                if (robot.getCaseRobot() == caseRobot) {
-                    drawRobot(robot);
-                    dessiner = true;
-                    break;
-                }
-            }
+            rendu.dessineCase(incendie.getCaseFeu());
 
-            // Si aucun autre robot, redessine simplement la case.
-            if (!dessiner) {
-                drawCase(caseRobot);
+            // Redessine un robot de la case, ou simplement la case si elle est libre.
+            Robot robotCase = donnees.getOccupation().getPremierRobot(caseRobot);
+            if (robotCase != null) {
+                rendu.dessineRobot(robotCase);
+            } else {
+                rendu.dessineCase(caseRobot);
             }
         }
         // Si l'incendie n'est pas encore éteint mais le robot a encore de l'eau.
         else if (this.robot.getVolEau() > 0) {
-            Simulateur.ajouteEvenement(new DebutIntervention((super.getDate()) + 1, this.robot, this.incendie));
+            getContexte().ajouteEvenement(new DebutIntervention((super.getDate()) + 1, this.robot, this.incendie));
         }
 
         // Si le robot n'a plus d'eau disponible.
         if (this.robot.getVolEau() == 0) {
             this.incendie.setAttribue(false);
-            LinkedList<Carte.Direction> directions = ChefPompier.EauPlusProche(DonneesSimulation.getCarte(), this.robot);
+            LinkedList<Carte.Direction> directions = ChefPompier.EauPlusProche(getContexte(), this.robot);
             this.robot.setDeplacement(directions);
-            Simulateur.ajouteEvenement(new DebutDeplacement((super.getDate()) + 1, this.robot, false, true));
+            getContexte().ajouteEvenement(new DebutDeplacement((super.getDate()) + 1, this.robot, false, true));
         }
     }
 }
@@ -3,73 +3,115 @@ package evenements;
 import objets.Carte;
 import objets.Case;
 import objets.Incendie;
-import simulation.DonneesSimulation;
 
 import java.util.ArrayList;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Classe représentant la propagation d'un incendie sur une carte.
  * Si les conditions sont remplies, un incendie peut se propager à une case voisine.
+ * Les tirages utilisent le générateur de la simulation, si bien qu'une simulation
+ * initialisée avec la même graine se déroule toujours de la même façon.
+ * L'événement se replanifie périodiquement tant qu'il reste des incendies.
  */
 public class PropagationIncendie extends Evenement {
 
     /**
-     * La date de l'événement.
+     * Période par défaut entre deux tentatives de propagation, en secondes.
      */
-    private long date;
+    public static final long PERIODE_DEFAUT = 60;
 
     /**
-     * Liste des directions possibles pour la propagation de l'incendie.
+     * Probabilité par défaut qu'un incendie se propage lors d'une tentative.
      */
-    private final ArrayList<Carte.Direction> Directions;
+    public static final double PROBABILITE_DEFAUT = 0.01;
 
     /**
-     * Constructeur pour initialiser l'événement de propagation d'incendie.
+     * Intensité au-delà de laquelle un incendie peut se propager.
+     */
+    public static final int SEUIL_PROPAGATION = 1000;
+
+    /**
+     * Décalages en ligne des directions de propagation, dans l'ordre NORD, SUD, EST, OUEST.
+     */
+    private static final int[] DECALAGE_LIGNE = {-1, 1, 0, 0};
+
+    /**
+     * Décalages en colonne des directions de propagation, dans l'ordre NORD, SUD, EST, OUEST.
+     */
+    private static final int[] DECALAGE_COLONNE = {0, 0, 1, -1};
+
+    /**
+     * Durée séparant cette tentative de propagation de la suivante.
+     */
+    private final long periode;
+
+    /**
+     * Probabilité qu'un incendie se propage lors de cette tentative.
+     */
+    private final double probabilite;
+
+    /**
+     * Constructeur pour initialiser l'événement de propagation d'incendie
+     * avec la période et la probabilité par défaut.
      *
      * @param date La date à laquelle l'événement de propagation se produit.
      */
     public PropagationIncendie(long date) {
+        this(date, PERIODE_DEFAUT, PROBABILITE_DEFAUT);
+    }
+
+    /**
+     * Constructeur pour initialiser l'événement de propagation d'incendie.
+     *
+     * @param date        La date à laquelle l'événement de propagation se produit.
+     * @param periode     La durée entre deux tentatives de propagation.
+     * @param probabilite La probabilité qu'un incendie se propage à chaque tentative.
+     */
+    public PropagationIncendie(long date, long periode, double probabilite) {
         super(date);
-        Directions = new ArrayList<>();
-        Directions.add(Carte.Direction.NORD);
-        Directions.add(Carte.Direction.SUD);
-        Directions.add(Carte.Direction.EST);
-        Directions.add(Carte.Direction.OUEST);
+        if (periode <= 0) {
+            throw new IllegalArgumentException("La période de propagation doit être strictement positive.");
+        }
+        this.periode = periode;
+        this.probabilite = probabilite;
     }
 
     /**
      * Exécute l'événement de propagation d'incendie.
      * Vérifie pour chaque incendie si les conditions de propagation sont remplies,
      * puis crée un nouvel incendie sur une case voisine si possible.
+     * Une nouvelle tentative est ensuite planifiée s'il reste des incendies.
      */
     @Override
     public void execute() {
-        Random nb = new Random();
-        long n;
-        Carte.Direction direction;
+        SplittableRandom aleatoire = getContexte().getAleatoire();
+        Carte carte = getContexte().getCarte();
 
-        // Parcourt tous les incendies de la simulation.
-        for (Incendie incendie : DonneesSimulation.getListeIncendies()) {
+        // Parcourt une copie de la liste, les nouveaux incendies n'étant pas pris en compte avant la tentative suivante.
+        for (Incendie incendie : new ArrayList<>(getContexte().getDonnees().getListeIncendies())) {
             // Vérifie si l'incendie est suffisamment important pour se propager.
-            if (incendie.getNbEau() > 1000) {
-                n = Math.round(Math.random() * 1000);
-
-                // Si la condition aléatoire est remplie, tente de propager l'incendie.
-                if (n == 1) {
-                    int m = (int) (Math.random() * 3);
-                    direction = Directions.get(m);
-
-                    // Récupère la case voisine dans la direction sélectionnée.
-                    Case case_propagation = Carte.getVoisin(incendie.getCaseFeu(), direction);
-
-                    // Si la case voisine est valide, crée un nouvel incendie.
-                    if (case_propagation != null) {
-                        Incendie nouvelle_Incendie = new Incendie(case_propagation, incendie.getNbEau() / 10);
-                        DonneesSimulation.getListeIncendies().add(nouvelle_Incendie);
-                    }
-                }
+            if (incendie.getNbEau() <= SEUIL_PROPAGATION || aleatoire.nextDouble() >= this.probabilite) {
+                continue;
+            }
+            int direction = aleatoire.nextInt(DECALAGE_LIGNE.length);
+
+            // Calcule la case voisine dans la direction sélectionnée, en lisant directement le terrain de la carte.
+            int ligne = incendie.getCaseFeu().getLigne() + DECALAGE_LIGNE[direction];
+            int colonne = incendie.getCaseFeu().getColonne() + DECALAGE_COLONNE[direction];
+            if (ligne < 0 || ligne >= carte.getNbLignes() || colonne < 0 || colonne >= carte.getNbColonnes()
+                    || carte.getNatureTerrain(ligne, colonne) == Case.natureTerrain.EAU) {
+                continue;
             }
+
+            // Le feu ne prend pas sur une case qui brûle déjà.
+            if (getContexte().getDonnees().getIncendie(ligne * carte.getNbColonnes() + colonne) == null) {
+                getContexte().allumeIncendie(carte.getCase(ligne, colonne), incendie.getNbEau() / 10);
+            }
+        }
+
+        if (!getContexte().getDonnees().getListeIncendies().isEmpty()) {
+            getContexte().ajouteEvenement(new PropagationIncendie(getDate() + this.periode, this.periode, this.probabilite));
         }
     }
 }
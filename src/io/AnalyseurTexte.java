@@ -0,0 +1,327 @@
+package io;
+
+import objets.Case.natureTerrain;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+
+/**
+ * Découpage en mots d'un fichier de carte au format texte, en une seule passe sur un tampon de caractères.
+ * Les mots sont séparés par des blancs, comme avec un {@link java.util.Scanner} ; les entiers
+ * et les natures de terrain sont reconnus directement dans le tampon, sans expression régulière
+ * ni chaîne intermédiaire. Les erreurs sont signalées par les mêmes exceptions que le
+ * {@link java.util.Scanner} utilisé auparavant, afin que {@link LecteurDonnees} produise les mêmes messages.
+ */
+class AnalyseurTexte implements Closeable {
+
+    /**
+     * Taille du tampon de lecture, en caractères.
+     */
+    private static final int TAILLE_TAMPON = 1 << 16;
+
+    /**
+     * Natures de terrain, dans l'ordre de leur déclaration.
+     */
+    private static final natureTerrain[] NATURES = natureTerrain.values();
+
+    /**
+     * Noms des natures de terrain, pour les comparer au tampon sans créer de chaîne.
+     */
+    private static final char[][] NOMS_NATURES = new char[NATURES.length][];
+
+    /**
+     * Longueur du plus long nom de nature de terrain.
+     */
+    private static final int LONGUEUR_MAX_NATURE;
+
+    static {
+        int longueurMax = 0;
+        for (int i = 0; i < NATURES.length; i++) {
+            NOMS_NATURES[i] = NATURES[i].name().toCharArray();
+            longueurMax = Math.max(longueurMax, NOMS_NATURES[i].length);
+        }
+        LONGUEUR_MAX_NATURE = longueurMax;
+    }
+
+    private final Reader source;
+    private final char[] tampon = new char[TAILLE_TAMPON];
+
+    /**
+     * Position du prochain caractère à lire dans le tampon.
+     */
+    private int position;
+
+    /**
+     * Nombre de caractères valides dans le tampon.
+     */
+    private int limite;
+
+    /**
+     * Crée un analyseur lisant une source de caractères.
+     *
+     * @param source La source à lire ; elle n'a pas besoin d'être tamponnée.
+     */
+    AnalyseurTexte(Reader source) {
+        this.source = source;
+    }
+
+    /**
+     * Indique si le prochain mot est un commentaire, c'est-à-dire s'il commence par '#'.
+     * Les blancs qui le précèdent sont consommés.
+     *
+     * @return true si le prochain mot est un commentaire.
+     */
+    boolean prochainEstCommentaire() {
+        return sauteBlancs() && this.tampon[this.position] == '#';
+    }
+
+    /**
+     * Consomme la fin de la ligne courante, caractère de fin de ligne compris.
+     */
+    void ignoreLigne() {
+        while (disponible()) {
+            char c = this.tampon[this.position++];
+            if (c == '\n') {
+                return;
+            }
+            if (c == '\r') {
+                if (disponible() && this.tampon[this.position] == '\n') {
+                    this.position++;
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Lit le prochain mot sous forme de chaîne.
+     *
+     * @return Le mot lu.
+     * @throws NoSuchElementException S'il ne reste aucun mot.
+     */
+    String motSuivant() {
+        if (!sauteBlancs()) {
+            throw new NoSuchElementException();
+        }
+        StringBuilder mot = new StringBuilder();
+        while (disponible() && !estBlanc(this.tampon[this.position])) {
+            mot.append(this.tampon[this.position++]);
+        }
+        return mot.toString();
+    }
+
+    /**
+     * Lit le prochain mot comme un entier.
+     *
+     * @return L'entier lu.
+     * @throws NoSuchElementException  S'il ne reste aucun mot.
+     * @throws InputMismatchException Si le mot n'est pas un entier représentable.
+     */
+    int entierSuivant() {
+        if (!sauteBlancs()) {
+            throw new NoSuchElementException();
+        }
+        boolean negatif = false;
+        char c = this.tampon[this.position];
+        if (c == '-' || c == '+') {
+            negatif = c == '-';
+            this.position++;
+        }
+        long valeur = 0;
+        int nbChiffres = 0;
+        while (disponible() && !estBlanc(this.tampon[this.position])) {
+            int chiffre = this.tampon[this.position] - '0';
+            if (chiffre < 0 || chiffre > 9) {
+                throw new InputMismatchException();
+            }
+            valeur = valeur * 10 + chiffre;
+            if (valeur > (long) Integer.MAX_VALUE + 1) {
+                throw new InputMismatchException();
+            }
+            nbChiffres++;
+            this.position++;
+        }
+        if (negatif) {
+            valeur = -valeur;
+        }
+        if (nbChiffres == 0 || valeur > Integer.MAX_VALUE) {
+            throw new InputMismatchException();
+        }
+        return (int) valeur;
+    }
+
+    /**
+     * Lit le prochain mot comme une nature de terrain.
+     *
+     * @return La nature de terrain lue.
+     * @throws NoSuchElementException   S'il ne reste aucun mot.
+     * @throws IllegalArgumentException Si le mot n'est le nom d'aucune nature de terrain.
+     */
+    natureTerrain natureSuivante() {
+        if (!sauteBlancs()) {
+            throw new NoSuchElementException();
+        }
+        // Le mot est comparé sur place à chaque nom, dont il doit être suivi d'un blanc ou de la fin du fichier.
+        assure(LONGUEUR_MAX_NATURE + 1);
+        char[] t = this.tampon;
+        int debut = this.position;
+        for (int i = 0; i < NOMS_NATURES.length; i++) {
+            char[] nom = NOMS_NATURES[i];
+            int fin = debut + nom.length;
+            if (fin > this.limite || (fin < this.limite && !estBlanc(t[fin]))) {
+                continue;
+            }
+            int k = 0;
+            while (k < nom.length && nom[k] == t[debut + k]) {
+                k++;
+            }
+            if (k == nom.length) {
+                this.position = fin;
+                return NATURES[i];
+            }
+        }
+        return natureTerrain.valueOf(motSuivant());
+    }
+
+    /**
+     * Cherche, dans le reste de la ligne courante, la première suite de chiffres.
+     * Si elle existe, elle est consommée ainsi que tout ce qui la précède ;
+     * sinon, rien n'est consommé.
+     *
+     * @return L'entier formé par cette suite de chiffres, ou -1 s'il n'y en a pas.
+     * @throws NumberFormatException Si l'entier n'est pas représentable.
+     */
+    int entierDansLigne() {
+        // La ligne est ramenée entière dans le tampon pour pouvoir revenir en arrière.
+        int i = this.position;
+        while (true) {
+            if (i == this.limite) {
+                int decalage = this.position;
+                boolean lus = remplit();
+                i -= decalage;
+                if (!lus) {
+                    return -1;
+                }
+            }
+            char c = this.tampon[i];
+            if (c == '\n' || c == '\r') {
+                return -1;
+            }
+            if (c >= '0' && c <= '9') {
+                break;
+            }
+            i++;
+        }
+        this.position = i;
+        int fin = i;
+        while (true) {
+            if (fin == this.limite) {
+                int decalage = this.position;
+                boolean lus = remplit();
+                fin -= decalage;
+                if (!lus) {
+                    break;
+                }
+            }
+            char c = this.tampon[fin];
+            if (c < '0' || c > '9') {
+                break;
+            }
+            fin++;
+        }
+        int debut = this.position;
+        this.position = fin;
+        return Integer.parseInt(new String(this.tampon, debut, fin - debut));
+    }
+
+    /**
+     * Ferme la source.
+     */
+    @Override
+    public void close() {
+        try {
+            this.source.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Consomme les blancs jusqu'au prochain mot.
+     *
+     * @return true s'il reste un mot à lire.
+     */
+    private boolean sauteBlancs() {
+        do {
+            char[] t = this.tampon;
+            int l = this.limite;
+            int p = this.position;
+            while (p < l && estBlanc(t[p])) {
+                p++;
+            }
+            this.position = p;
+            if (p < l) {
+                return true;
+            }
+        } while (remplit());
+        return false;
+    }
+
+    /**
+     * Indique si un caractère est un blanc au sens de {@link Character#isWhitespace(char)},
+     * sans appel pour les caractères ASCII, de loin les plus fréquents.
+     */
+    private static boolean estBlanc(char c) {
+        if (c > ' ') {
+            return c >= 0x7F && Character.isWhitespace(c);
+        }
+        return c == ' ' || (c >= '\t' && c <= '\r') || c >= 0x1C;
+    }
+
+    /**
+     * Recharge le tampon si nécessaire pour que n caractères au moins soient disponibles,
+     * dans la mesure où la source en contient encore.
+     */
+    private void assure(int n) {
+        while (this.limite - this.position < n && remplit()) {
+            // Le tampon est complété jusqu'à contenir n caractères ou jusqu'à la fin de la source.
+        }
+    }
+
+    /**
+     * Indique s'il reste un caractère à lire, en rechargeant le tampon si nécessaire.
+     */
+    private boolean disponible() {
+        return this.position < this.limite || remplit();
+    }
+
+    /**
+     * Déplace les caractères non lus au début du tampon et le complète depuis la source.
+     * Le déplacement a lieu même lorsque la source est épuisée, sauf si le tampon est plein.
+     *
+     * @return true si de nouveaux caractères ont été lus.
+     */
+    private boolean remplit() {
+        int restant = this.limite - this.position;
+        if (restant == this.tampon.length) {
+            return false;
+        }
+        System.arraycopy(this.tampon, this.position, this.tampon, 0, restant);
+        this.position = 0;
+        this.limite = restant;
+        try {
+            int lus = this.source.read(this.tampon, restant, this.tampon.length - restant);
+            if (lus <= 0) {
+                return false;
+            }
+            this.limite += lus;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
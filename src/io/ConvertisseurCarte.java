@@ -0,0 +1,88 @@
+package io;
+
+import objets.Carte;
+import objets.Incendie;
+import objets.Robot;
+import simulation.DonneesSimulation;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+
+/**
+ * Conversion d'un fichier de carte au format texte vers le format binaire lu par {@link LecteurBinaire}.
+ * Le fichier converti décrit exactement la même situation initiale : terrain, incendies et
+ * robots avec leur vitesse et leur réservoir.
+ */
+public class ConvertisseurCarte {
+
+    /**
+     * Constructeur privé pour empêcher l'instanciation de la classe.
+     */
+    private ConvertisseurCarte() {
+    }
+
+    /**
+     * Écrit des données de simulation au format binaire.
+     *
+     * @param data        Les données à écrire, telles qu'au chargement.
+     * @param destination Le fichier à créer.
+     * @throws IOException En cas d'erreur d'écriture.
+     */
+    public static void ecrit(DonneesSimulation data, String destination) throws IOException {
+        Carte carte = data.getCarte();
+        try (DataOutputStream sortie = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(destination), 1 << 16))) {
+            sortie.writeInt(LecteurBinaire.MAGIQUE);
+            sortie.writeInt(LecteurBinaire.VERSION);
+            sortie.writeInt(carte.getNbLignes());
+            sortie.writeInt(carte.getNbColonnes());
+            sortie.writeInt(carte.getTailleCases());
+            for (int indice = 0; indice < carte.getNbLignes() * carte.getNbColonnes(); indice++) {
+                sortie.writeByte(carte.getNatureTerrain(indice).ordinal());
+            }
+
+            sortie.writeInt(data.getListeIncendies().size());
+            for (Incendie incendie : data.getListeIncendies()) {
+                sortie.writeInt(incendie.getCaseFeu().getLigne());
+                sortie.writeInt(incendie.getCaseFeu().getColonne());
+                sortie.writeInt(incendie.getNbEau());
+            }
+
+            sortie.writeInt(data.getListeRobots().size());
+            for (Robot robot : data.getListeRobots()) {
+                sortie.writeInt(robot.getCaseRobot().getLigne());
+                sortie.writeInt(robot.getCaseRobot().getColonne());
+                sortie.writeByte(robot.getType().ordinal());
+                sortie.writeDouble(robot.getVitesse());
+                sortie.writeInt(robot.getReservoir());
+            }
+        }
+    }
+
+    /**
+     * Convertit un fichier de carte texte en fichier binaire.
+     *
+     * @param args Le fichier source (.map) et le fichier destination ({@value LecteurBinaire#EXTENSION}).
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.out.println("Syntaxe: java ConvertisseurCarte <source.map> <destination" + LecteurBinaire.EXTENSION + ">");
+            return;
+        }
+        try {
+            DonneesSimulation data = LecteurDonnees.creeDonnees(args[0]);
+            ecrit(data, args[1]);
+            System.out.println("Carte " + args[0] + " convertie dans " + args[1] + ".");
+        } catch (FileNotFoundException e) {
+            System.out.println("fichier " + args[0] + " inconnu ou illisible");
+        } catch (DataFormatException e) {
+            System.out.println("\n\t**format du fichier " + args[0] + " invalide: " + e.getMessage());
+        } catch (IOException e) {
+            System.out.println("écriture de " + args[1] + " impossible : " + e.getMessage());
+        }
+    }
+}
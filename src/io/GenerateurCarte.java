@@ -0,0 +1,401 @@
+package io;
+
+import objets.Carte;
+import objets.Case;
+import objets.Case.natureTerrain;
+import objets.Incendie;
+import objets.Robot;
+import objets.Robot.typeRobot;
+import simulation.DonneesSimulation;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+/**
+ * Génération procédurale de scénarios, pour mesurer les algorithmes sur des cartes
+ * bien plus grandes que celles fournies. Le terrain est tiré case par case selon des proportions
+ * données, puis des lacs de forme irrégulière sont creusés ; les incendies sont placés sur des
+ * cases distinctes hors de l'eau et chaque robot sur une case qui lui est accessible.
+ * Tous les tirages proviennent d'un générateur initialisé avec la graine : une même graine
+ * et les mêmes paramètres donnent toujours le même scénario.
+ * Utilisation : java io.GenerateurCarte fichier nbLignes nbColonnes graine
+ * [nbIncendies [nbLacs [flotte [terrain [intensiteMin intensiteMax]]]]]
+ */
+public class GenerateurCarte {
+
+    /**
+     * Taille des cases par défaut, en mètres.
+     */
+    public static final int TAILLE_CASES_DEFAUT = 100;
+
+    /**
+     * Intensités par défaut des incendies : bornes incluses de l'intervalle de tirage.
+     */
+    public static final int INTENSITE_MIN_DEFAUT = 5000;
+    public static final int INTENSITE_MAX_DEFAUT = 20000;
+
+    /**
+     * Natures de terrain tirées hors des lacs, dans l'ordre des proportions.
+     */
+    private static final natureTerrain[] NATURES_TIREES = {
+            natureTerrain.TERRAIN_LIBRE, natureTerrain.FORET, natureTerrain.ROCHE, natureTerrain.HABITAT
+    };
+
+    /**
+     * Nombre maximal de tirages au hasard d'une case avant de la chercher par parcours.
+     */
+    private static final int NB_TIRAGES_MAX = 1000;
+
+    private final int nbLignes;
+    private final int nbColonnes;
+    private final long graine;
+    private int tailleCases = TAILLE_CASES_DEFAUT;
+
+    /**
+     * Poids relatifs de TERRAIN_LIBRE, FORET, ROCHE et HABITAT.
+     */
+    private int[] proportions = {60, 15, 15, 10};
+
+    private int nbLacs;
+    private int rayonMaxLacs;
+    private int nbIncendies;
+    private int intensiteMin = INTENSITE_MIN_DEFAUT;
+    private int intensiteMax = INTENSITE_MAX_DEFAUT;
+
+    /**
+     * Nombre de robots de chaque type, dans l'ordre de {@link typeRobot}.
+     */
+    private int[] flotte = {2, 2, 2, 2};
+
+    /**
+     * Crée un générateur pour une carte de taille donnée. Le nombre de lacs, leur rayon
+     * et le nombre d'incendies sont proportionnés à la surface de la carte.
+     *
+     * @param nbLignes   Le nombre de lignes de la carte.
+     * @param nbColonnes Le nombre de colonnes de la carte.
+     * @param graine     La graine des tirages.
+     */
+    public GenerateurCarte(int nbLignes, int nbColonnes, long graine) {
+        if (nbLignes <= 0 || nbColonnes <= 0) {
+            throw new IllegalArgumentException("Les dimensions de la carte doivent être strictement positives.");
+        }
+        this.nbLignes = nbLignes;
+        this.nbColonnes = nbColonnes;
+        this.graine = graine;
+        long nbCases = (long) nbLignes * nbColonnes;
+        // Avec ces valeurs, l'eau couvre environ 8 % de la carte, quelle que soit sa taille.
+        this.nbLacs = (int) Math.max(1, Math.min(40, nbCases / 100));
+        this.rayonMaxLacs = (int) Math.max(2, Math.sqrt(nbCases) / 25);
+        this.nbIncendies = (int) Math.max(1, Math.min(nbCases / 200, 10000));
+    }
+
+    /**
+     * Définit la taille des cases.
+     *
+     * @param tailleCases La taille des cases, en mètres.
+     */
+    public void setTailleCases(int tailleCases) {
+        if (tailleCases <= 0) {
+            throw new IllegalArgumentException("La taille des cases doit être strictement positive.");
+        }
+        this.tailleCases = tailleCases;
+    }
+
+    /**
+     * Définit les poids relatifs des natures de terrain hors des lacs.
+     *
+     * @param libre   Le poids de TERRAIN_LIBRE.
+     * @param foret   Le poids de FORET.
+     * @param roche   Le poids de ROCHE.
+     * @param habitat Le poids de HABITAT.
+     */
+    public void setProportions(int libre, int foret, int roche, int habitat) {
+        if (libre < 0 || foret < 0 || roche < 0 || habitat < 0 || libre + foret + roche + habitat == 0) {
+            throw new IllegalArgumentException("Les proportions doivent être positives et non toutes nulles.");
+        }
+        this.proportions = new int[]{libre, foret, roche, habitat};
+    }
+
+    /**
+     * Définit les lacs à creuser.
+     *
+     * @param nbLacs   Le nombre de lacs.
+     * @param rayonMax Le rayon maximal d'un lac, en cases.
+     */
+    public void setLacs(int nbLacs, int rayonMax) {
+        if (nbLacs < 0 || rayonMax <= 0) {
+            throw new IllegalArgumentException("Le nombre de lacs doit être positif et leur rayon strictement positif.");
+        }
+        this.nbLacs = nbLacs;
+        this.rayonMaxLacs = rayonMax;
+    }
+
+    /**
+     * Définit les incendies à allumer.
+     *
+     * @param nbIncendies  Le nombre d'incendies.
+     * @param intensiteMin L'intensité minimale d'un incendie.
+     * @param intensiteMax L'intensité maximale d'un incendie.
+     */
+    public void setIncendies(int nbIncendies, int intensiteMin, int intensiteMax) {
+        if (nbIncendies < 0 || intensiteMin <= 0 || intensiteMax < intensiteMin) {
+            throw new IllegalArgumentException("Intensités d'incendie invalides. Attendu : 0 < min <= max.");
+        }
+        this.nbIncendies = nbIncendies;
+        this.intensiteMin = intensiteMin;
+        this.intensiteMax = intensiteMax;
+    }
+
+    /**
+     * Définit la composition de la flotte de robots.
+     *
+     * @param drones    Le nombre de drones.
+     * @param roues     Le nombre de robots à roues.
+     * @param pattes    Le nombre de robots à pattes.
+     * @param chenilles Le nombre de robots à chenilles.
+     */
+    public void setFlotte(int drones, int roues, int pattes, int chenilles) {
+        if (drones < 0 || roues < 0 || pattes < 0 || chenilles < 0) {
+            throw new IllegalArgumentException("Le nombre de robots de chaque type doit être positif.");
+        }
+        this.flotte = new int[]{drones, roues, pattes, chenilles};
+    }
+
+    /**
+     * Génère le scénario.
+     *
+     * @return Les données du scénario, telles qu'après la lecture d'un fichier.
+     * @throws IllegalArgumentException S'il n'y a pas assez de cases pour les incendies ou les robots.
+     */
+    public DonneesSimulation genere() {
+        SplittableRandom aleatoire = new SplittableRandom(this.graine);
+        DonneesSimulation data = new DonneesSimulation();
+        Carte carte = new Carte(this.nbLignes, this.nbColonnes, this.tailleCases);
+        data.setCarte(carte);
+
+        genereTerrain(carte, aleatoire);
+        creuseLacs(carte, aleatoire);
+        int nbCases = this.nbLignes * this.nbColonnes;
+        for (int indice = 0; indice < nbCases; indice++) {
+            if (carte.getNatureTerrain(indice) == natureTerrain.EAU) {
+                data.addEau(carte.getCase(indice));
+            }
+        }
+
+        // Les incendies sont sur des cases distinctes, accessibles à un robot à pattes (toutes sauf l'eau).
+        if (this.nbIncendies > nbCases - data.getListeEau().size()) {
+            throw new IllegalArgumentException("Trop d'incendies pour le nombre de cases hors de l'eau.");
+        }
+        BitSet casesEnFeu = new BitSet(nbCases);
+        for (int i = 0; i < this.nbIncendies; i++) {
+            int indice = tireCase(carte, aleatoire, typeRobot.PATTES, casesEnFeu);
+            casesEnFeu.set(indice);
+            int intensite = this.intensiteMin + aleatoire.nextInt(this.intensiteMax - this.intensiteMin + 1);
+            data.addIncendie(new Incendie(carte.getCase(indice), intensite));
+        }
+
+        typeRobot[] types = typeRobot.values();
+        for (int t = 0; t < types.length; t++) {
+            for (int i = 0; i < this.flotte[t]; i++) {
+                int indice = tireCase(carte, aleatoire, types[t], null);
+                Robot robot = LecteurDonnees.creeRobot(types[t], carte.getCase(indice));
+                data.addRobot(robot);
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Tire la nature de chaque case selon les proportions.
+     */
+    private void genereTerrain(Carte carte, SplittableRandom aleatoire) {
+        int total = 0;
+        for (int poids : this.proportions) {
+            total += poids;
+        }
+        for (int ligne = 0; ligne < this.nbLignes; ligne++) {
+            for (int colonne = 0; colonne < this.nbColonnes; colonne++) {
+                int tirage = aleatoire.nextInt(total);
+                int k = 0;
+                while (tirage >= this.proportions[k]) {
+                    tirage -= this.proportions[k];
+                    k++;
+                }
+                carte.setNatureTerrain(ligne, colonne, NATURES_TIREES[k]);
+            }
+        }
+    }
+
+    /**
+     * Creuse les lacs : chacun est un disque de rayon aléatoire dont le bord est bruité
+     * case par case, ce qui donne des rives irrégulières.
+     */
+    private void creuseLacs(Carte carte, SplittableRandom aleatoire) {
+        for (int lac = 0; lac < this.nbLacs; lac++) {
+            int centreLigne = aleatoire.nextInt(this.nbLignes);
+            int centreColonne = aleatoire.nextInt(this.nbColonnes);
+            int rayon = 1 + aleatoire.nextInt(this.rayonMaxLacs);
+            for (int ligne = Math.max(0, centreLigne - rayon); ligne <= Math.min(this.nbLignes - 1, centreLigne + rayon); ligne++) {
+                for (int colonne = Math.max(0, centreColonne - rayon); colonne <= Math.min(this.nbColonnes - 1, centreColonne + rayon); colonne++) {
+                    int dl = ligne - centreLigne;
+                    int dc = colonne - centreColonne;
+                    double distance = dl * dl + dc * dc;
+                    if (distance <= rayon * rayon * (0.6 + 0.8 * aleatoire.nextDouble())) {
+                        carte.setNatureTerrain(ligne, colonne, natureTerrain.EAU);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Tire une case accessible à un type de robot, en dehors d'un ensemble de cases exclues.
+     * Après un nombre limité de tirages infructueux, la carte est parcourue depuis une case au hasard.
+     *
+     * @param carte     La carte.
+     * @param aleatoire Le générateur.
+     * @param type      Le type de robot.
+     * @param exclues   Les cases à écarter, ou null.
+     * @return L'indice de la case tirée.
+     * @throws IllegalArgumentException Si aucune case ne convient.
+     */
+    private static int tireCase(Carte carte, SplittableRandom aleatoire, typeRobot type, BitSet exclues) {
+        int nbCases = carte.getNbLignes() * carte.getNbColonnes();
+        for (int essai = 0; essai < NB_TIRAGES_MAX; essai++) {
+            int indice = aleatoire.nextInt(nbCases);
+            if (convient(carte, indice, type, exclues)) {
+                return indice;
+            }
+        }
+        int depart = aleatoire.nextInt(nbCases);
+        for (int k = 0; k < nbCases; k++) {
+            int indice = (depart + k) % nbCases;
+            if (convient(carte, indice, type, exclues)) {
+                return indice;
+            }
+        }
+        throw new IllegalArgumentException("Aucune case disponible pour le type " + type + ".");
+    }
+
+    private static boolean convient(Carte carte, int indice, typeRobot type, BitSet exclues) {
+        return Carte.estAccessible(type, carte.getNatureTerrain(indice)) && (exclues == null || !exclues.get(indice));
+    }
+
+    /**
+     * Écrit des données de simulation au format texte lu par {@link LecteurDonnees}, une ligne de la carte
+     * par ligne de fichier. Les robots sont écrits sans vitesse : ils doivent avoir leurs caractéristiques par défaut.
+     *
+     * @param data        Les données à écrire.
+     * @param destination Le fichier à créer.
+     * @throws IOException En cas d'erreur d'écriture.
+     */
+    public static void ecritTexte(DonneesSimulation data, String destination) throws IOException {
+        Carte carte = data.getCarte();
+        try (BufferedWriter sortie = new BufferedWriter(new FileWriter(destination), 1 << 16)) {
+            sortie.write("# Carte " + carte.getNbLignes() + "x" + carte.getNbColonnes() + " générée\n");
+            sortie.write(carte.getNbLignes() + " " + carte.getNbColonnes() + " " + carte.getTailleCases() + "\n");
+            for (int ligne = 0; ligne < carte.getNbLignes(); ligne++) {
+                for (int colonne = 0; colonne < carte.getNbColonnes(); colonne++) {
+                    if (colonne > 0) {
+                        sortie.write(' ');
+                    }
+                    sortie.write(carte.getNatureTerrain(ligne, colonne).name());
+                }
+                sortie.write('\n');
+            }
+
+            sortie.write("# incendies\n" + data.getListeIncendies().size() + "\n");
+            for (Incendie incendie : data.getListeIncendies()) {
+                Case caseFeu = incendie.getCaseFeu();
+                sortie.write(caseFeu.getLigne() + " " + caseFeu.getColonne() + " " + incendie.getNbEau() + "\n");
+            }
+
+            sortie.write("# robots\n" + data.getListeRobots().size() + "\n");
+            for (Robot robot : data.getListeRobots()) {
+                Case position = robot.getCaseRobot();
+                sortie.write(position.getLigne() + " " + position.getColonne() + " " + robot.getType() + "\n");
+            }
+        }
+    }
+
+    /**
+     * Écrit des données de simulation au format binaire si le fichier a l'extension
+     * {@value LecteurBinaire#EXTENSION}, au format texte sinon.
+     *
+     * @param data        Les données à écrire.
+     * @param destination Le fichier à créer.
+     * @throws IOException En cas d'erreur d'écriture.
+     */
+    public static void ecrit(DonneesSimulation data, String destination) throws IOException {
+        if (destination.endsWith(LecteurBinaire.EXTENSION)) {
+            ConvertisseurCarte.ecrit(data, destination);
+        } else {
+            ecritTexte(data, destination);
+        }
+    }
+
+    /**
+     * Lit une liste d'entiers séparés par des virgules.
+     */
+    private static int[] lisListe(String liste, int taille) {
+        String[] morceaux = liste.split(",");
+        if (morceaux.length != taille) {
+            throw new IllegalArgumentException("Liste de " + taille + " entiers attendue : " + liste);
+        }
+        int[] valeurs = new int[taille];
+        for (int i = 0; i < taille; i++) {
+            valeurs[i] = Integer.parseInt(morceaux[i].trim());
+        }
+        return valeurs;
+    }
+
+    /**
+     * Génère un scénario et l'écrit dans un fichier.
+     *
+     * @param args fichier nbLignes nbColonnes graine [nbIncendies [nbLacs [flotte [terrain [intensiteMin intensiteMax]]]]],
+     *             où flotte donne le nombre de drones, de robots à roues, à pattes et à chenilles (par exemple 2,2,2,2)
+     *             et terrain les poids de TERRAIN_LIBRE, FORET, ROCHE et HABITAT (par exemple 60,15,15,10).
+     */
+    public static void main(String[] args) {
+        if (args.length < 4) {
+            System.out.println("Syntaxe: java io.GenerateurCarte <fichier.map|fichier" + LecteurBinaire.EXTENSION
+                    + "> <nbLignes> <nbColonnes> <graine> [nbIncendies [nbLacs [drones,roues,pattes,chenilles "
+                    + "[libre,foret,roche,habitat [intensiteMin intensiteMax]]]]]");
+            return;
+        }
+        String destination = args[0];
+        GenerateurCarte generateur = new GenerateurCarte(Integer.parseInt(args[1]), Integer.parseInt(args[2]),
+                Long.parseLong(args[3]));
+        if (args.length > 4) {
+            int intensiteMin = args.length > 9 ? Integer.parseInt(args[8]) : INTENSITE_MIN_DEFAUT;
+            int intensiteMax = args.length > 9 ? Integer.parseInt(args[9]) : INTENSITE_MAX_DEFAUT;
+            generateur.setIncendies(Integer.parseInt(args[4]), intensiteMin, intensiteMax);
+        }
+        if (args.length > 5) {
+            generateur.setLacs(Integer.parseInt(args[5]), generateur.rayonMaxLacs);
+        }
+        if (args.length > 6) {
+            int[] flotte = lisListe(args[6], 4);
+            generateur.setFlotte(flotte[0], flotte[1], flotte[2], flotte[3]);
+        }
+        if (args.length > 7) {
+            int[] terrain = lisListe(args[7], 4);
+            generateur.setProportions(terrain[0], terrain[1], terrain[2], terrain[3]);
+        }
+
+        long debut = System.nanoTime();
+        DonneesSimulation data = generateur.genere();
+        try {
+            ecrit(data, destination);
+        } catch (IOException e) {
+            System.out.println("écriture de " + destination + " impossible : " + e.getMessage());
+            return;
+        }
+        System.out.println("Carte " + generateur.nbLignes + "x" + generateur.nbColonnes + " écrite dans " + destination
+                + " : " + data.getListeEau().size() + " cases d'eau, " + data.getListeIncendies().size() + " incendies, "
+                + data.getListeRobots().size() + " robots (" + (System.nanoTime() - debut) / 1_000_000 + " ms).");
+    }
+}
@@ -0,0 +1,197 @@
+package io;
+
+import objets.Carte;
+import objets.Case;
+import objets.Case.natureTerrain;
+import objets.Incendie;
+import objets.Robot;
+import objets.Robot.typeRobot;
+import simulation.DonneesSimulation;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.DataFormatException;
+
+/**
+ * Classe permettant de lire les données depuis un fichier au format binaire produit par
+ * {@link ConvertisseurCarte}. Le fichier est projeté en mémoire et le terrain est recopié
+ * d'un seul bloc dans la carte, sans analyse de texte.
+ * <p>
+ * Le format, en gros-boutiste, est le suivant :
+ * <ul>
+ *     <li>en-tête : nombre magique, version, nbLignes, nbColonnes, tailleCases (entiers) ;</li>
+ *     <li>terrain : un octet par case, rang de la nature de terrain, ligne par ligne ;</li>
+ *     <li>incendies : leur nombre, puis ligne, colonne et intensité (entiers) pour chacun ;</li>
+ *     <li>robots : leur nombre, puis ligne, colonne (entiers), type (octet), vitesse (double)
+ *     et capacité du réservoir (entier) pour chacun.</li>
+ * </ul>
+ */
+public class LecteurBinaire {
+
+    /**
+     * Extension des fichiers au format binaire.
+     */
+    public static final String EXTENSION = ".mapb";
+
+    /**
+     * Nombre magique placé en tête des fichiers binaires ("CRTB").
+     */
+    static final int MAGIQUE = 0x43525442;
+
+    /**
+     * Version du format.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * Constructeur privé pour empêcher l'instanciation de la classe.
+     */
+    private LecteurBinaire() {
+    }
+
+    /**
+     * Lit les données depuis un fichier binaire et crée une instance de {@link DonneesSimulation}.
+     *
+     * @param fichierDonnees Le fichier contenant les données.
+     * @return Une instance de {@link DonneesSimulation} contenant toutes les données lues.
+     * @throws FileNotFoundException Si le fichier n'existe pas.
+     * @throws DataFormatException   Si les données sont mal formatées.
+     */
+    public static DonneesSimulation creeDonnees(String fichierDonnees)
+            throws FileNotFoundException, DataFormatException {
+        MappedByteBuffer tampon;
+        try (FileChannel canal = FileChannel.open(Paths.get(fichierDonnees), StandardOpenOption.READ)) {
+            tampon = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException(fichierDonnees);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        try {
+            DonneesSimulation data = new DonneesSimulation();
+            Carte carte = creeCarte(tampon);
+            data.setCarte(carte);
+            for (int indice = 0; indice < carte.getNbLignes() * carte.getNbColonnes(); indice++) {
+                if (carte.getNatureTerrain(indice) == natureTerrain.EAU) {
+                    data.addEau(carte.getCase(indice));
+                }
+            }
+            creeIncendies(tampon, data);
+            creeRobots(tampon, data);
+            return data;
+        } catch (BufferUnderflowException e) {
+            throw new DataFormatException("Fichier binaire tronqué.");
+        }
+    }
+
+    /**
+     * Crée la carte à partir de l'en-tête et du bloc de terrain.
+     *
+     * @param tampon Le contenu du fichier.
+     * @return Une instance de {@link Carte}.
+     * @throws DataFormatException Si le format des données est incorrect.
+     */
+    private static Carte creeCarte(MappedByteBuffer tampon) throws DataFormatException {
+        if (tampon.getInt() != MAGIQUE) {
+            throw new DataFormatException("Fichier binaire invalide : nombre magique inconnu.");
+        }
+        int version = tampon.getInt();
+        if (version != VERSION) {
+            throw new DataFormatException("Version de fichier binaire non prise en charge : " + version + ".");
+        }
+        int nbLignes = tampon.getInt();
+        int nbColonnes = tampon.getInt();
+        int tailleCases = tampon.getInt();
+        if (nbLignes <= 0 || nbColonnes <= 0 || tailleCases <= 0) {
+            throw new DataFormatException("Format invalide. Attendu : nbLignes nbColonnes tailleCases.");
+        }
+        if ((long) nbLignes * nbColonnes > tampon.remaining()) {
+            throw new DataFormatException("Fichier binaire tronqué.");
+        }
+
+        Carte carte = new Carte(nbLignes, nbColonnes, tailleCases);
+        try {
+            carte.chargeTerrain(tampon);
+        } catch (IllegalArgumentException e) {
+            throw new DataFormatException("Format de case invalide. Attendu : natureTerrain.");
+        }
+        return carte;
+    }
+
+    /**
+     * Crée les incendies à partir de leur table.
+     *
+     * @param tampon Le contenu du fichier, positionné sur la table des incendies.
+     * @param data   Une instance de {@link DonneesSimulation} où enregistrer les données.
+     * @throws DataFormatException Si le format des données est incorrect.
+     */
+    private static void creeIncendies(MappedByteBuffer tampon, DonneesSimulation data) throws DataFormatException {
+        int nbIncendies = tampon.getInt();
+        if (nbIncendies < 0) {
+            throw new DataFormatException("Format invalide pour les incendies.");
+        }
+        for (int i = 0; i < nbIncendies; i++) {
+            Case caseFeu = lisCase(tampon, data.getCarte());
+            int intensite = tampon.getInt();
+            if (intensite <= 0) {
+                throw new DataFormatException("Intensité d'incendie invalide. Elle doit être > 0.");
+            }
+            data.addIncendie(new Incendie(caseFeu, intensite));
+        }
+    }
+
+    /**
+     * Crée les robots à partir de leur table.
+     *
+     * @param tampon Le contenu du fichier, positionné sur la table des robots.
+     * @param data   Une instance de {@link DonneesSimulation} où enregistrer les données.
+     * @throws DataFormatException Si le format des données est incorrect.
+     */
+    private static void creeRobots(MappedByteBuffer tampon, DonneesSimulation data) throws DataFormatException {
+        int nbRobots = tampon.getInt();
+        if (nbRobots < 0) {
+            throw new DataFormatException("Format invalide pour les robots.");
+        }
+        typeRobot[] types = typeRobot.values();
+        for (int i = 0; i < nbRobots; i++) {
+            Case position = lisCase(tampon, data.getCarte());
+            int type = tampon.get();
+            double vitesse = tampon.getDouble();
+            int reservoir = tampon.getInt();
+            if (type < 0 || type >= types.length || vitesse <= 0 || reservoir <= 0) {
+                throw new DataFormatException("Format invalide pour un robot.");
+            }
+
+            Robot robot = LecteurDonnees.creeRobot(types[type], position);
+            robot.setVitesse(vitesse);
+            robot.setReservoir(reservoir);
+            robot.setVolEau(reservoir);
+            data.addRobot(robot);
+        }
+    }
+
+    /**
+     * Lit une position (ligne puis colonne) et retourne la case correspondante.
+     *
+     * @param tampon Le contenu du fichier.
+     * @param carte  La carte de la simulation.
+     * @return La case lue.
+     * @throws DataFormatException Si la position est en dehors de la carte.
+     */
+    private static Case lisCase(MappedByteBuffer tampon, Carte carte) throws DataFormatException {
+        int lig = tampon.getInt();
+        int col = tampon.getInt();
+        if (lig < 0 || lig >= carte.getNbLignes() || col < 0 || col >= carte.getNbColonnes()) {
+            throw new DataFormatException("Position hors de la carte : (" + lig + ", " + col + ").");
+        }
+        return carte.getCase(lig, col);
+    }
+}
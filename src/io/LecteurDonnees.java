@@ -9,8 +9,6 @@ import java.io.*;
 import java.util.*;
 import java.util.zip.DataFormatException;
 
-import static simulation.DonneesSimulation.getCarte;
-
 /**
  * Classe permettant de lire les données depuis un fichier au format spécifié.
  * Cette classe permet de construire une instance de {@link DonneesSimulation}
@@ -18,7 +16,7 @@ import static simulation.DonneesSimulation.getCarte;
  */
 public class LecteurDonnees {
 
-    private static Scanner scanner;
+    private final AnalyseurTexte analyseur;
 
     /**
      * Constructeur privé pour empêcher l'instanciation en dehors de la classe.
@@ -27,12 +25,12 @@ public class LecteurDonnees {
      * @throws FileNotFoundException Si le fichier n'est pas trouvé.
      */
     private LecteurDonnees(String fichierDonnees) throws FileNotFoundException {
-        scanner = new Scanner(new File(fichierDonnees));
-        scanner.useLocale(Locale.US);
+        analyseur = new AnalyseurTexte(new FileReader(fichierDonnees));
     }
 
     /**
      * Lit les données depuis le fichier et crée une instance de {@link DonneesSimulation}.
+     * Les fichiers d'extension {@value LecteurBinaire#EXTENSION} sont lus par {@link LecteurBinaire}.
      *
      * @param fichierDonnees Le fichier contenant les données.
      * @return Une instance de {@link DonneesSimulation} contenant toutes les données lues.
@@ -41,6 +39,9 @@ public class LecteurDonnees {
      */
     public static DonneesSimulation creeDonnees(String fichierDonnees)
             throws FileNotFoundException, DataFormatException {
+        if (fichierDonnees.endsWith(LecteurBinaire.EXTENSION)) {
+            return LecteurBinaire.creeDonnees(fichierDonnees);
+        }
         DonneesSimulation data = new DonneesSimulation();
         LecteurDonnees lecteur = new LecteurDonnees(fichierDonnees);
 
@@ -48,7 +49,7 @@ public class LecteurDonnees {
         data.setCarte(initCarte);
         lecteur.creeIncendies(data);
         lecteur.creerRobots(data);
-        scanner.close();
+        lecteur.analyseur.close();
 
         return data;
     }
@@ -63,15 +64,15 @@ public class LecteurDonnees {
     private Carte creeCarte(DonneesSimulation data) throws DataFormatException {
         ignorerCommentaires();
         try {
-            int nbLignes = scanner.nextInt();
-            int nbColonnes = scanner.nextInt();
-            int tailleCases = scanner.nextInt();
+            int nbLignes = analyseur.entierSuivant();
+            int nbColonnes = analyseur.entierSuivant();
+            int tailleCases = analyseur.entierSuivant();
 
             Carte newMap = new Carte(nbLignes, nbColonnes, tailleCases);
 
             for (int lig = 0; lig < nbLignes; lig++) {
                 for (int col = 0; col < nbColonnes; col++) {
-                    newMap.setCase(lig, col, creeCase(lig, col, data));
+                    newMap.setNatureTerrain(lig, col, lisNatureCase(lig, col, data));
                 }
             }
 
@@ -83,26 +84,25 @@ public class LecteurDonnees {
     }
 
     /**
-     * Crée une case en lisant les données correspondantes depuis le fichier.
+     * Lit la nature d'une case depuis le fichier.
+     * Seules les cases d'eau donnent lieu à un objet {@link Case}, ajouté à la liste des cases d'eau.
      *
      * @param lig  La ligne de la case.
      * @param col  La colonne de la case.
      * @param data Une instance de {@link DonneesSimulation} où enregistrer les données.
-     * @return Une instance de {@link Case}.
+     * @return La nature de la case.
      * @throws DataFormatException Si le format des données est incorrect.
      */
-    private Case creeCase(int lig, int col, DonneesSimulation data) throws DataFormatException {
+    private natureTerrain lisNatureCase(int lig, int col, DonneesSimulation data) throws DataFormatException {
         ignorerCommentaires();
         try {
-            String chaineNature = scanner.next();
-            natureTerrain nature = natureTerrain.valueOf(chaineNature);
-            Case nouvelleCase = new Case(lig, col, nature);
+            natureTerrain nature = analyseur.natureSuivante();
 
             if (nature == natureTerrain.EAU) {
-                data.addEau(nouvelleCase);
+                data.addEau(new Case(lig, col, nature));
             }
 
-            return nouvelleCase;
+            return nature;
 
         } catch (NoSuchElementException e) {
             throw new DataFormatException("Format de case invalide. Attendu : natureTerrain.");
@@ -118,17 +118,17 @@ public class LecteurDonnees {
     private void creeIncendies(DonneesSimulation data) throws DataFormatException {
         ignorerCommentaires();
         try {
-            int nbIncendies = scanner.nextInt();
+            int nbIncendies = analyseur.entierSuivant();
             for (int i = 0; i < nbIncendies; i++) {
-                int lig = scanner.nextInt();
-                int col = scanner.nextInt();
-                int intensite = scanner.nextInt();
+                int lig = analyseur.entierSuivant();
+                int col = analyseur.entierSuivant();
+                int intensite = analyseur.entierSuivant();
 
                 if (intensite <= 0) {
                     throw new DataFormatException("Intensité d'incendie invalide. Elle doit être > 0.");
                 }
 
-                Case caseFeu = getCarte().getCase(lig, col);
+                Case caseFeu = data.getCarte().getCase(lig, col);
                 data.addIncendie(new Incendie(caseFeu, intensite));
             }
         } catch (NoSuchElementException e) {
@@ -145,7 +145,7 @@ public class LecteurDonnees {
     private void creerRobots(DonneesSimulation data) throws DataFormatException {
         ignorerCommentaires();
         try {
-            int nbRobots = scanner.nextInt();
+            int nbRobots = analyseur.entierSuivant();
             for (int i = 0; i < nbRobots; i++) {
                 creerRobot(i, data);
             }
@@ -164,17 +164,17 @@ public class LecteurDonnees {
     private void creerRobot(int i, DonneesSimulation data) throws DataFormatException {
         ignorerCommentaires();
         try {
-            int lig = scanner.nextInt();
-            int col = scanner.nextInt();
-            String type = scanner.next();
+            int lig = analyseur.entierSuivant();
+            int col = analyseur.entierSuivant();
+            String type = analyseur.motSuivant();
 
-            String s = scanner.findInLine("(\\d+)");
+            // La vitesse, facultative, est la première suite de chiffres du reste de la ligne.
+            int vitesse = analyseur.entierDansLigne();
             Robot robot;
 
-            if (s == null) {
+            if (vitesse < 0) {
                 robot = creerTypeRobot(type, lig, col, data);
             } else {
-                int vitesse = Integer.parseInt(s);
                 robot = creerTypeRobot(type, lig, col, data, vitesse);
             }
 
@@ -189,8 +189,8 @@ public class LecteurDonnees {
      * Ignore les lignes de commentaires commençant par '#'.
      */
     private void ignorerCommentaires() {
-        while (scanner.hasNext("#.*")) {
-            scanner.nextLine();
+        while (analyseur.prochainEstCommentaire()) {
+            analyseur.ignoreLigne();
         }
     }
 
@@ -204,16 +204,26 @@ public class LecteurDonnees {
      * @return Une instance de {@link Robot}.
      */
     private Robot creerTypeRobot(String type, int lig, int col, DonneesSimulation data) {
-        typeRobot typerobot = typeRobot.valueOf(type);
-        switch (typerobot) {
+        return creeRobot(typeRobot.valueOf(type), data.getCarte().getCase(lig, col));
+    }
+
+    /**
+     * Crée un robot d'un type donné avec ses caractéristiques par défaut.
+     *
+     * @param type     Le type du robot.
+     * @param position La case où se trouve le robot.
+     * @return Une instance de {@link Robot}.
+     */
+    static Robot creeRobot(typeRobot type, Case position) {
+        switch (type) {
             case DRONE:
-                return new Drone(getCarte().getCase(lig, col));
+                return new Drone(position);
             case ROUES:
-                return new RobotARoue(getCarte().getCase(lig, col));
+                return new RobotARoue(position);
             case PATTES:
-                return new RobotAPattes(getCarte().getCase(lig, col));
+                return new RobotAPattes(position);
             case CHENILLES:
-                return new RobotAChenilles(getCarte().getCase(lig, col));
+                return new RobotAChenilles(position);
             default:
                 throw new AssertionError();
         }
@@ -233,13 +243,13 @@ public class LecteurDonnees {
         typeRobot typerobot = typeRobot.valueOf(type);
         switch (typerobot) {
             case DRONE:
-                return new Drone(getCarte().getCase(lig, col), vitesse);
+                return new Drone(data.getCarte().getCase(lig, col), vitesse);
             case ROUES:
-                return new RobotARoue(getCarte().getCase(lig, col), vitesse);
+                return new RobotARoue(data.getCarte().getCase(lig, col), vitesse);
             case PATTES:
-                return new RobotAPattes(getCarte().getCase(lig, col));
+                return new RobotAPattes(data.getCarte().getCase(lig, col));
             case CHENILLES:
-                return new RobotAChenilles(getCarte().getCase(lig, col), vitesse);
+                return new RobotAChenilles(data.getCarte().getCase(lig, col), vitesse);
             default:
                 throw new AssertionError();
         }
@@ -0,0 +1,111 @@
+package objets;
+
+import java.util.Arrays;
+
+/**
+ * Résolution du problème d'affectation par l'algorithme hongrois (Kuhn–Munkres), en O(n³).
+ * Étant donnée une matrice de coûts lignes × colonnes, l'algorithme associe chaque ligne à au plus
+ * une colonne, et inversement, de façon à minimiser la somme des coûts des couples formés.
+ * La matrice peut être rectangulaire : seules min(lignes, colonnes) paires sont alors formées.
+ * Un coût infini interdit le couple correspondant.
+ */
+public class AffectationHongroise {
+
+    /**
+     * Calcule une affectation de coût total minimal.
+     *
+     * @param couts La matrice des coûts, couts[ligne][colonne], dont toutes les lignes ont la même longueur.
+     * @return Pour chaque ligne, l'indice de la colonne affectée, ou -1 si la ligne n'est pas affectée.
+     */
+    public static int[] resout(double[][] couts) {
+        int nbLignes = couts.length;
+        int nbColonnes = nbLignes == 0 ? 0 : couts[0].length;
+        int[] affectation = new int[nbLignes];
+        Arrays.fill(affectation, -1);
+        if (nbLignes == 0 || nbColonnes == 0) {
+            return affectation;
+        }
+
+        // L'algorithme suppose au moins autant de colonnes que de lignes : on transpose sinon.
+        boolean transposee = nbLignes > nbColonnes;
+        int n = Math.min(nbLignes, nbColonnes);
+        int m = Math.max(nbLignes, nbColonnes);
+
+        // Les couples interdits reçoivent un coût plus grand que n'importe quelle affectation autorisée.
+        double maxFini = 0;
+        for (double[] ligne : couts) {
+            for (double cout : ligne) {
+                if (cout != Double.POSITIVE_INFINITY) {
+                    maxFini = Math.max(maxFini, Math.abs(cout));
+                }
+            }
+        }
+        double interdit = (maxFini + 1) * (n + 1);
+        double[][] a = new double[n + 1][m + 1];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < m; j++) {
+                double cout = transposee ? couts[j][i] : couts[i][j];
+                a[i + 1][j + 1] = cout == Double.POSITIVE_INFINITY ? interdit : cout;
+            }
+        }
+
+        // Potentiels des lignes (u) et des colonnes (v), ligne affectée à chaque colonne (p).
+        double[] u = new double[n + 1];
+        double[] v = new double[m + 1];
+        int[] p = new int[m + 1];
+        int[] chemin = new int[m + 1];
+        for (int i = 1; i <= n; i++) {
+            p[0] = i;
+            int j0 = 0;
+            double[] minV = new double[m + 1];
+            boolean[] utilisee = new boolean[m + 1];
+            Arrays.fill(minV, Double.POSITIVE_INFINITY);
+            do {
+                utilisee[j0] = true;
+                int i0 = p[j0];
+                double delta = Double.POSITIVE_INFINITY;
+                int j1 = 0;
+                for (int j = 1; j <= m; j++) {
+                    if (!utilisee[j]) {
+                        double reduit = a[i0][j] - u[i0] - v[j];
+                        if (reduit < minV[j]) {
+                            minV[j] = reduit;
+                            chemin[j] = j0;
+                        }
+                        if (minV[j] < delta) {
+                            delta = minV[j];
+                            j1 = j;
+                        }
+                    }
+                }
+                for (int j = 0; j <= m; j++) {
+                    if (utilisee[j]) {
+                        u[p[j]] += delta;
+                        v[j] -= delta;
+                    } else {
+                        minV[j] -= delta;
+                    }
+                }
+                j0 = j1;
+            } while (p[j0] != 0);
+            // Inverse les affectations le long du chemin augmentant trouvé.
+            do {
+                int j1 = chemin[j0];
+                p[j0] = p[j1];
+                j0 = j1;
+            } while (j0 != 0);
+        }
+
+        for (int j = 1; j <= m; j++) {
+            if (p[j] == 0) {
+                continue;
+            }
+            int ligne = transposee ? j - 1 : p[j] - 1;
+            int colonne = transposee ? p[j] - 1 : j - 1;
+            if (couts[ligne][colonne] != Double.POSITIVE_INFINITY) {
+                affectation[ligne] = colonne;
+            }
+        }
+        return affectation;
+    }
+}
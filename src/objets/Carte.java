@@ -1,42 +1,61 @@
 package objets;
 
-import gui.GUISimulator;
-import simulation.DonneesSimulation;
-import simulation.Simulateur;
-
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 
 import static objets.Case.natureTerrain;
-import static objets.Case.drawCase;
-import static objets.Incendie.drawIncendies;
-import static objets.Robot.drawRobots;
 import static objets.Robot.typeRobot;
 
 /**
  * Classe représentant une carte composée de cases.
  * Elle gère les informations relatives aux cases, leur nature, et les déplacements sur la carte.
+ * La nature des cases est rangée dans un tableau d'octets indexé par ligne * nbColonnes + colonne ;
+ * les objets {@link Case} sont créés à la demande et ne sont pas conservés par la carte.
  */
 public class Carte {
+    /**
+     * Natures de terrain, dans l'ordre de leurs valeurs ordinales.
+     */
+    private static final natureTerrain[] NATURES = natureTerrain.values();
+
     /**
      * Taille des cases en mètres.
      */
-    private static int tailleCases;
+    private final int tailleCases;
 
     /**
-     * Tableau contenant les cases de la carte.
+     * Nombre de lignes de la carte.
      */
-    private static Case[][] caseTab;
+    private final int nbLignes;
 
     /**
-     * Constructeur de la classe Carte. Initialise la carte avec un tableau de cases.
+     * Nombre de colonnes de la carte.
+     */
+    private final int nbColonnes;
+
+    /**
+     * Valeur ordinale de la nature de chaque case, indexée par ligne * nbColonnes + colonne.
+     */
+    private final byte[] terrain;
+
+    /**
+     * Nombre de modifications du terrain depuis la création de la carte.
+     */
+    private int versionTerrain;
+
+    /**
+     * Constructeur de la classe Carte. Initialise la carte avec un tableau de natures de terrain.
      *
      * @param nbLignes Nombre de lignes de la carte.
      * @param nbColonnes Nombre de colonnes de la carte.
      * @param taille Taille des cases en mètres.
      */
     public Carte(int nbLignes, int nbColonnes, int taille) {
-        caseTab = new Case[nbLignes][nbColonnes];
-        tailleCases = taille;
+        this.nbLignes = nbLignes;
+        this.nbColonnes = nbColonnes;
+        this.terrain = new byte[nbLignes * nbColonnes];
+        this.tailleCases = taille;
     }
 
     /**
@@ -47,7 +66,56 @@ public class Carte {
      * @return La nature du terrain.
      */
     public natureTerrain getNatureTerrain(int ligne, int colonne) {
-        return this.getCaseTab()[ligne][colonne].getNature();
+        return NATURES[this.terrain[ligne * this.nbColonnes + colonne]];
+    }
+
+    /**
+     * Retourne la nature du terrain d'une case à partir de son indice.
+     *
+     * @param indice L'indice de la case (ligne * nbColonnes + colonne).
+     * @return La nature du terrain.
+     */
+    public natureTerrain getNatureTerrain(int indice) {
+        return NATURES[this.terrain[indice]];
+    }
+
+    /**
+     * Définit la nature du terrain d'une case.
+     *
+     * @param ligne Ligne de la case.
+     * @param colonne Colonne de la case.
+     * @param nature La nature du terrain.
+     */
+    public void setNatureTerrain(int ligne, int colonne, natureTerrain nature) {
+        this.terrain[ligne * this.nbColonnes + colonne] = (byte) nature.ordinal();
+        this.versionTerrain++;
+    }
+
+    /**
+     * Remplit toute la carte à partir de valeurs ordinales de natures de terrain, une par octet,
+     * rangées par ligne puis par colonne.
+     *
+     * @param source Le tampon contenant au moins nbLignes * nbColonnes octets à partir de sa position.
+     * @throws IllegalArgumentException Si un octet ne correspond à aucune nature de terrain.
+     */
+    public void chargeTerrain(ByteBuffer source) {
+        source.get(this.terrain);
+        this.versionTerrain++;
+        for (int indice = 0; indice < this.terrain.length; indice++) {
+            if (this.terrain[indice] < 0 || this.terrain[indice] >= NATURES.length) {
+                throw new IllegalArgumentException("Nature de terrain inconnue : " + this.terrain[indice]);
+            }
+        }
+    }
+
+    /**
+     * Retourne le nombre de modifications du terrain depuis la création de la carte.
+     * Les calculs qui dépendent du terrain peuvent le mémoriser pour détecter qu'ils sont périmés.
+     *
+     * @return La version du terrain.
+     */
+    public int getVersionTerrain() {
+        return this.versionTerrain;
     }
 
     /**
@@ -55,17 +123,36 @@ public class Carte {
      *
      * @return La taille des cases en mètres.
      */
-    public static int getTailleCases() {
+    public int getTailleCases() {
         return tailleCases;
     }
 
     /**
-     * Retourne le tableau contenant les cases de la carte.
+     * Retourne le nombre de lignes de la carte.
      *
-     * @return Le tableau de cases.
+     * @return Le nombre de lignes.
      */
-    public Case[][] getCaseTab() {
-        return caseTab;
+    public int getNbLignes() {
+        return this.nbLignes;
+    }
+
+    /**
+     * Retourne le nombre de colonnes de la carte.
+     *
+     * @return Le nombre de colonnes.
+     */
+    public int getNbColonnes() {
+        return this.nbColonnes;
+    }
+
+    /**
+     * Retourne l'indice d'une case dans la carte, calculé comme ligne * nbColonnes + colonne.
+     *
+     * @param src La case.
+     * @return L'indice de la case.
+     */
+    public int getIndice(Case src) {
+        return src.getLigne() * this.nbColonnes + src.getColonne();
     }
 
     /**
@@ -76,18 +163,29 @@ public class Carte {
      * @return La case demandée.
      */
     public Case getCase(int ligne, int colonne) {
-        return caseTab[ligne][colonne];
+        return new Case(ligne, colonne, getNatureTerrain(ligne, colonne));
+    }
+
+    /**
+     * Retourne une case spécifique de la carte à partir de son indice.
+     *
+     * @param indice L'indice de la case (ligne * nbColonnes + colonne).
+     * @return La case demandée.
+     */
+    public Case getCase(int indice) {
+        return new Case(indice / this.nbColonnes, indice % this.nbColonnes, getNatureTerrain(indice));
     }
 
     /**
      * Définit une case à des coordonnées spécifiques dans la carte.
+     * Seule la nature de la case est conservée.
      *
      * @param ligne Ligne de la case.
      * @param colonne Colonne de la case.
      * @param data La case à définir.
      */
     public void setCase(int ligne, int colonne, Case data) {
-        caseTab[ligne][colonne] = data;
+        setNatureTerrain(ligne, colonne, data.getNature());
     }
 
     /**
@@ -104,16 +202,16 @@ public class Carte {
      * @param dir La direction dans laquelle vérifier.
      * @return true si un voisin existe, sinon false.
      */
-    public static boolean voisinExiste(Case src, Direction dir) {
+    public boolean voisinExiste(Case src, Direction dir) {
         int ligne = src.getLigne();
         int colonne = src.getColonne();
         switch (dir) {
             case NORD:
                 return ligne != 0;
             case SUD:
-                return ligne != caseTab.length - 1;
+                return ligne != this.nbLignes - 1;
             case EST:
-                return colonne != caseTab[0].length - 1;
+                return colonne != this.nbColonnes - 1;
             case OUEST:
                 return colonne != 0;
             default:
@@ -128,7 +226,7 @@ public class Carte {
      * @param dir La direction du voisin.
      * @return La case voisine ou null si elle n'existe pas.
      */
-    public static Case getVoisin(Case src, Direction dir) {
+    public Case getVoisin(Case src, Direction dir) {
         int ligne = src.getLigne();
         int colonne = src.getColonne();
         if (!voisinExiste(src, dir)) {
@@ -136,13 +234,13 @@ public class Carte {
         }
         switch (dir) {
             case NORD:
-                return caseTab[ligne - 1][colonne];
+                return getCase(ligne - 1, colonne);
             case SUD:
-                return caseTab[ligne + 1][colonne];
+                return getCase(ligne + 1, colonne);
             case EST:
-                return caseTab[ligne][colonne + 1];
+                return getCase(ligne, colonne + 1);
             case OUEST:
-                return caseTab[ligne][colonne - 1];
+                return getCase(ligne, colonne - 1);
             default:
                 return null;
         }
@@ -160,56 +258,68 @@ public class Carte {
         Case new_voisin;
         for (Direction d : Direction.values()) {
             new_voisin = getVoisin(caseCourante, d);
-            if (new_voisin != null) {
-                natureTerrain terrain = new_voisin.getNature();
-                switch (terrain) {
-                    case TERRAIN_LIBRE:
-                    case HABITAT:
-                        voisins.add(new_voisin);
-                        break;
-                    case FORET:
-                        if (robot.getType() != typeRobot.ROUES) {
-                            voisins.add(new_voisin);
-                        }
-                        break;
-                    case EAU:
-                        if (robot.getType() == typeRobot.DRONE) {
-                            voisins.add(new_voisin);
-                        }
-                        break;
-                    case ROCHE:
-                        if (robot.getType() == typeRobot.PATTES || robot.getType() == typeRobot.DRONE) {
-                            voisins.add(new_voisin);
-                        }
-                        break;
-                }
+            if (new_voisin != null && estAccessible(robot.getType(), new_voisin.getNature())) {
+                voisins.add(new_voisin);
             }
         }
         return voisins;
     }
 
     /**
-     * Dessine la carte avec ses cases, incendies et robots.
+     * Retourne les indices des cases depuis lesquelles un type de robot peut remplir son réservoir :
+     * les cases d'eau pour un drone, les cases accessibles voisines d'une case d'eau pour les autres robots.
      *
-     * @param data Les données de la simulation.
+     * @param type Le type de robot.
+     * @return Les indices des cases de remplissage, par ordre croissant.
      */
-    public static void drawCarte(DonneesSimulation data) {
-        int tailleH;
-        int tailleW;
-        int taille;
-        GUISimulator gui = Simulateur.getGui();
-        Carte carte = DonneesSimulation.getCarte();
-        tailleW = gui.getPanelHeight() / carte.getCaseTab()[0].length;
-        tailleH = gui.getPanelWidth() / carte.getCaseTab().length;
-        taille = Math.min(tailleW, tailleH);
-        Simulateur.setTailleCase(taille);
-
-        for (int i = 0; i < carte.getCaseTab().length; i++) {
-            for (int j = 0; j < carte.getCaseTab()[0].length; j++) {
-                drawCase(carte.getCase(i, j));
+    public int[] indicesRemplissage(typeRobot type) {
+        int nbLignes = getNbLignes();
+        int nbColonnes = getNbColonnes();
+        int[] indices = new int[nbLignes * nbColonnes];
+        int nbIndices = 0;
+        byte eau = (byte) natureTerrain.EAU.ordinal();
+        for (int i = 0; i < nbLignes; i++) {
+            for (int j = 0; j < nbColonnes; j++) {
+                int indice = i * nbColonnes + j;
+                natureTerrain terrain = getNatureTerrain(indice);
+                boolean remplissage;
+                if (type == typeRobot.DRONE) {
+                    remplissage = terrain == natureTerrain.EAU;
+                } else {
+                    remplissage = terrain != natureTerrain.EAU && estAccessible(type, terrain)
+                            && ((i > 0 && this.terrain[indice - nbColonnes] == eau)
+                            || (i < nbLignes - 1 && this.terrain[indice + nbColonnes] == eau)
+                            || (j > 0 && this.terrain[indice - 1] == eau)
+                            || (j < nbColonnes - 1 && this.terrain[indice + 1] == eau));
+                }
+                if (remplissage) {
+                    indices[nbIndices++] = indice;
+                }
             }
         }
-        drawIncendies(DonneesSimulation.getListeIncendies());
-        drawRobots(DonneesSimulation.getListeRobots());
+        return Arrays.copyOf(indices, nbIndices);
+    }
+
+    /**
+     * Indique si un type de robot peut se déplacer sur une nature de terrain donnée.
+     *
+     * @param type Le type de robot.
+     * @param terrain La nature du terrain.
+     * @return true si le terrain est praticable pour ce type de robot, sinon false.
+     */
+    public static boolean estAccessible(typeRobot type, natureTerrain terrain) {
+        switch (terrain) {
+            case TERRAIN_LIBRE:
+            case HABITAT:
+                return true;
+            case FORET:
+                return type != typeRobot.ROUES;
+            case EAU:
+                return type == typeRobot.DRONE;
+            case ROCHE:
+                return type == typeRobot.PATTES || type == typeRobot.DRONE;
+            default:
+                return false;
+        }
     }
 }
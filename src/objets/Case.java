@@ -1,28 +1,27 @@
 package objets;
 
-import gui.GUISimulator;
-import gui.ImageElement;
-import simulation.Simulateur;
-
 /**
  * Classe représentant une case sur la carte.
  * Une case possède une position (ligne, colonne) et une nature de terrain.
+ * La carte ne conserve pas d'objets Case : elle range la nature de ses cases dans un tableau
+ * d'octets et crée à la demande des cases légères et immuables. Deux cases sont donc égales
+ * lorsqu'elles désignent la même position, ce qu'il faut tester avec {@link #equals(Object)}.
  */
 public class Case {
     /**
      * Ligne de la case sur la carte.
      */
-    private int ligne;
+    private final int ligne;
 
     /**
      * Colonne de la case sur la carte.
      */
-    private int colonne;
+    private final int colonne;
 
     /**
      * Nature du terrain de la case.
      */
-    private natureTerrain nature;
+    private final natureTerrain nature;
 
     /**
      * Enumération des différents types de terrain possibles pour une case.
@@ -44,33 +43,6 @@ public class Case {
         this.nature = nature;
     }
 
-    /**
-     * Définit la ligne de la case.
-     *
-     * @param ligne La ligne à assigner à la case.
-     */
-    public void setLigne(int ligne) {
-        this.ligne = ligne;
-    }
-
-    /**
-     * Définit la colonne de la case.
-     *
-     * @param colonne La colonne à assigner à la case.
-     */
-    public void setColonne(int colonne) {
-        this.colonne = colonne;
-    }
-
-    /**
-     * Définit la nature du terrain de la case.
-     *
-     * @param nature La nature à assigner à la case.
-     */
-    public void setNature(natureTerrain nature) {
-        this.nature = nature;
-    }
-
     /**
      * Retourne la ligne de la case.
      *
@@ -99,19 +71,31 @@ public class Case {
     }
 
     /**
-     * Dessine une case sur l'interface graphique.
-     * L'image affichée dépend de la nature du terrain de la case.
+     * Indique si un objet désigne la même position que cette case.
      *
-     * @param caseDraw La case à dessiner.
+     * @param objet L'objet à comparer.
+     * @return true si l'objet est une case de même ligne et de même colonne.
      */
-    public static void drawCase(Case caseDraw) {
-        int taille = Simulateur.getTailleCase();
-        int colonne = caseDraw.getColonne();
-        int ligne = caseDraw.getLigne();
-        natureTerrain natureCase = caseDraw.getNature();
-        String imagePath = "Images/" + natureCase + ".png";
-        GUISimulator gui = Simulateur.getGui();
-        gui.addGraphicalElement(new ImageElement(colonne * taille, ligne * taille, imagePath, taille, taille, null));
+    @Override
+    public boolean equals(Object objet) {
+        if (this == objet) {
+            return true;
+        }
+        if (!(objet instanceof Case)) {
+            return false;
+        }
+        Case autre = (Case) objet;
+        return this.ligne == autre.ligne && this.colonne == autre.colonne;
+    }
+
+    /**
+     * Retourne un code de hachage cohérent avec {@link #equals(Object)}.
+     *
+     * @return Le code de hachage de la position.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * this.ligne + this.colonne;
     }
 
     /**
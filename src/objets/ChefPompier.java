@@ -1,20 +1,14 @@
 package objets;
 
-import A_etoile.Astar;
+import A_etoile.CheminCompact;
 import evenements.DebutDeplacement;
-import simulation.DonneesSimulation;
-import simulation.Simulateur;
+import simulation.ContexteSimulation;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.PriorityQueue;
 
-import static objets.Carte.getVoisin;
-import static objets.Case.natureTerrain;
-import static simulation.DonneesSimulation.getListeEau;
-import static simulation.DonneesSimulation.getListeIncendies;
-import static objets.Robot.typeRobot;
 import objets.Carte.Direction;
 
 /**
@@ -23,25 +17,44 @@ import objets.Carte.Direction;
  */
 public class ChefPompier {
 
+    /**
+     * Calcule le plus court chemin d'un robot vers une case, sauf si la case est hors de la
+     * composante connexe du robot : le couple est alors écarté sans lancer de recherche.
+     * Les chemins déjà calculés depuis la même case vers la même destination sont lus dans
+     * le cache de la simulation.
+     *
+     * @param contexte La simulation dans laquelle le robot se déplace.
+     * @param robot Le robot à déplacer.
+     * @param destination La case à atteindre.
+     * @return Le chemin vers la destination, ou null si elle est inatteignable.
+     */
+    private static LinkedList<Direction> cheminSiAtteignable(ContexteSimulation contexte, Robot robot, Case destination) {
+        if (!contexte.estAtteignable(robot, destination)) {
+            return null;
+        }
+        CheminCompact chemin = contexte.getCacheChemins().chemin(robot, destination);
+        return chemin != null ? chemin.versListe() : null;
+    }
+
     /**
      * Attribue les robots aux incendies de manière simple, en assignant le premier robot disponible
      * à un incendie non attribué.
      *
-     * @param carte La carte sur laquelle opère le chef pompier.
+     * @param contexte La simulation dans laquelle opère le chef pompier.
      */
-    static public void AttributionSimple(Carte carte) {
-        ArrayList<Incendie> incendies = DonneesSimulation.getListeIncendies();
-        ArrayList<Robot> robots = DonneesSimulation.getListeRobots();
+    static public void AttributionSimple(ContexteSimulation contexte) {
+        ArrayList<Incendie> incendies = contexte.getDonnees().getListeIncendies();
+        ArrayList<Robot> robots = contexte.getDonnees().getListeRobots();
         for (Incendie incendie : incendies) {
             if (!incendie.isAttribue()) {
                 for (Robot robot : robots) {
                     if (!robot.isOccupe()) {
-                        LinkedList<Carte.Direction> chemin = Astar.AStarSearch(carte, robot, incendie.getCaseFeu());
+                        LinkedList<Carte.Direction> chemin = cheminSiAtteignable(contexte, robot, incendie.getCaseFeu());
                         if (chemin != null) {
                             robot.setDeplacement(chemin);
                             incendie.setAttribue(true);
                             robot.setOccupe(true);
-                            Simulateur.ajouteEvenement(new DebutDeplacement(Simulateur.getDateSimulation() + 1, robot, true, false));
+                            contexte.ajouteEvenement(new DebutDeplacement(contexte.getDateSimulation() + 1, robot, true, false));
                             break;
                         }
                     }
@@ -52,54 +65,31 @@ public class ChefPompier {
 
     /**
      * Trouve le chemin le plus court vers une source d'eau pour un robot donné.
+     * Le chemin est lu dans le champ de remplissage du type du robot, calculé au chargement
+     * depuis toutes ses cases de remplissage (les cases d'eau pour un drone, leurs voisines
+     * accessibles pour les autres robots).
      *
-     * @param carte La carte sur laquelle le robot se déplace.
+     * @param contexte La simulation dans laquelle le robot se déplace.
      * @param robot Le robot cherchant une source d'eau.
-     * @return Une liste des directions vers la source d'eau la plus proche.
+     * @return Une liste des directions vers la source d'eau la plus proche, vide si aucune n'est atteignable.
      */
-    public static LinkedList<Direction> EauPlusProche(Carte carte, Robot robot) {
-        ArrayList<Case> allEau = getListeEau();
-        int dist = Integer.MAX_VALUE;
-        int tailleRef = Integer.MAX_VALUE;
-        LinkedList<Direction> plusCourtCheminEau = new LinkedList<>();
-
-        for (Case eau : allEau) {
-            if (eau.getNature() == natureTerrain.EAU) {
-                LinkedList<Direction> cheminEau = new LinkedList<>();
-                if (robot.getTypeRobot() == typeRobot.DRONE) {
-                    cheminEau = Astar.AStarSearch(carte, robot, eau);
-                } else {
-                    for (Direction d : Direction.values()) {
-                        Case voisin = getVoisin(eau, d);
-                        if (voisin == null || voisin.getNature() == natureTerrain.EAU) {
-                            continue;
-                        }
-                        LinkedList<Carte.Direction> testCheminEau = Astar.AStarSearch(carte, robot, voisin);
-                        if (testCheminEau != null && !testCheminEau.isEmpty() && testCheminEau.size() < tailleRef) {
-                            tailleRef = testCheminEau.size();
-                            cheminEau = testCheminEau;
-                        }
-                    }
-                }
-
-                if (!cheminEau.isEmpty() && cheminEau.size() < dist) {
-                    dist = cheminEau.size();
-                    plusCourtCheminEau = cheminEau;
-                }
-            }
-        }
-        return plusCourtCheminEau;
+    public static LinkedList<Direction> EauPlusProche(ContexteSimulation contexte, Robot robot) {
+        Carte carte = contexte.getCarte();
+        LinkedList<Direction> plusCourtCheminEau = contexte.getChampRemplissage(robot.getTypeRobot())
+                .chemin(carte.getIndice(robot.getCaseRobot()));
+        return plusCourtCheminEau != null ? plusCourtCheminEau : new LinkedList<>();
     }
 
     /**
      * Attribue les robots aux incendies en prenant en compte le temps nécessaire pour atteindre
      * chaque incendie et choisit le robot le plus adapté.
      *
-     * @param carte La carte sur laquelle opère le chef pompier.
+     * @param contexte La simulation dans laquelle opère le chef pompier.
      */
-    static public void AttributionAvancee(Carte carte) {
-        ArrayList<Incendie> incendies = DonneesSimulation.getListeIncendies();
-        ArrayList<Robot> robots = DonneesSimulation.getListeRobots();
+    static public void AttributionAvancee(ContexteSimulation contexte) {
+        Carte carte = contexte.getCarte();
+        ArrayList<Incendie> incendies = contexte.getDonnees().getListeIncendies();
+        ArrayList<Robot> robots = contexte.getDonnees().getListeRobots();
         int tempsMin = Integer.MAX_VALUE;
         LinkedList<Carte.Direction> directionIncendie = new LinkedList<>();
         Robot bonRobot = null;
@@ -108,7 +98,7 @@ public class ChefPompier {
             if (!incendie.isAttribue()) {
                 for (Robot robot : robots) {
                     if (!robot.isOccupe() && robot.getVolEau() != 0) {
-                        LinkedList<Carte.Direction> plusCourtChemin = Astar.AStarSearch(carte, robot, incendie.getCaseFeu());
+                        LinkedList<Carte.Direction> plusCourtChemin = cheminSiAtteignable(contexte, robot, incendie.getCaseFeu());
                         if (plusCourtChemin == null) {
                             continue;
                         }
@@ -124,7 +114,7 @@ public class ChefPompier {
                     bonRobot.setDeplacement(directionIncendie);
                     incendie.setAttribue(true);
                     bonRobot.setOccupe(true);
-                    Simulateur.ajouteEvenement(new DebutDeplacement(Simulateur.getDateSimulation() + 1, bonRobot, true, false));
+                    contexte.ajouteEvenement(new DebutDeplacement(contexte.getDateSimulation() + 1, bonRobot, true, false));
                     break;
                 }
             }
@@ -134,18 +124,18 @@ public class ChefPompier {
     /**
      * Trouve le chemin vers l'incendie le plus proche pour un robot donné.
      *
-     * @param carte La carte sur laquelle le robot se déplace.
+     * @param contexte La simulation dans laquelle le robot se déplace.
      * @param robot Le robot cherchant un incendie.
      * @return Une liste des directions vers l'incendie le plus proche.
      */
-    public static LinkedList<Carte.Direction> TrouveFeuPlusProche(Carte carte, Robot robot) {
-        ArrayList<Incendie> allFeu = getListeIncendies();
+    public static LinkedList<Carte.Direction> TrouveFeuPlusProche(ContexteSimulation contexte, Robot robot) {
+        ArrayList<Incendie> allFeu = contexte.getDonnees().getListeIncendies();
         Incendie feuOccupe = allFeu.get(0);
         int dist = Integer.MAX_VALUE;
         LinkedList<Carte.Direction> plusCourtCheminFeu = new LinkedList<>();
 
         for (Incendie feu : allFeu) {
-            LinkedList<Carte.Direction> testChemin = Astar.AStarSearch(carte, robot, feu.getCaseFeu());
+            LinkedList<Carte.Direction> testChemin = cheminSiAtteignable(contexte, robot, feu.getCaseFeu());
             if (testChemin != null && testChemin.size() < dist) {
                 dist = testChemin.size();
                 plusCourtCheminFeu = testChemin;
@@ -160,11 +150,11 @@ public class ChefPompier {
      * Méthode d'attribution avancée utilisant une file de priorité pour organiser les robots
      * en fonction de leur vitesse et gérer les incendies de manière optimisée.
      *
-     * @param carte La carte sur laquelle opère le chef pompier.
+     * @param contexte La simulation dans laquelle opère le chef pompier.
      */
-    static public void AttributionReflechie(Carte carte) {
-        ArrayList<Incendie> incendies = DonneesSimulation.getListeIncendies();
-        ArrayList<Robot> robots = DonneesSimulation.getListeRobots();
+    static public void AttributionReflechie(ContexteSimulation contexte) {
+        ArrayList<Incendie> incendies = contexte.getDonnees().getListeIncendies();
+        ArrayList<Robot> robots = contexte.getDonnees().getListeRobots();
         PriorityQueue<Robot> SortedRobots = new PriorityQueue<>(Comparator.comparingDouble(Robot::getVitesse));
         SortedRobots.addAll(robots);
         LinkedList<Carte.Direction> feuPlusProche;
@@ -177,11 +167,11 @@ public class ChefPompier {
                 }
                 Incendie feu = incendies.get(i);
                 if (!feu.isAttribue()) {
-                    feuPlusProche = TrouveFeuPlusProche(carte, rob);
+                    feuPlusProche = TrouveFeuPlusProche(contexte, rob);
                     if (!feuPlusProche.isEmpty()) {
                         rob.setDeplacement(feuPlusProche);
                         rob.setOccupe(true);
-                        Simulateur.ajouteEvenement(new DebutDeplacement(Simulateur.getDateSimulation() + 1, rob, true, false));
+                        contexte.ajouteEvenement(new DebutDeplacement(contexte.getDateSimulation() + 1, rob, true, false));
                         break;
                     }
                 } else {
@@ -193,11 +183,11 @@ public class ChefPompier {
             if (!rob.isOccupe() && rob.getVolEau() != 0) {
                 for (Incendie feu : incendies) {
                     if (feu.isAttribue()) { // Attribue un robot aux incendies déjà attribués pour renforcer l'intervention
-                        feuPlusProche = TrouveFeuPlusProche(carte, rob);
+                        feuPlusProche = TrouveFeuPlusProche(contexte, rob);
                         if (!feuPlusProche.isEmpty()) {
                             rob.setDeplacement(feuPlusProche);
                             rob.setOccupe(true);
-                            Simulateur.ajouteEvenement(new DebutDeplacement(Simulateur.getDateSimulation() + 1, rob, true, false));
+                            contexte.ajouteEvenement(new DebutDeplacement(contexte.getDateSimulation() + 1, rob, true, false));
                             break; // Passe au robot suivant après attribution
                         }
                     }
@@ -205,4 +195,58 @@ public class ChefPompier {
             }
         }
     }
+
+    /**
+     * Attribue les incendies aux robots de manière à minimiser la somme des temps de trajet.
+     * La matrice robots × incendies des temps de déplacement est construite pour les robots libres
+     * ayant de l'eau et les incendies non attribués, puis résolue par l'algorithme hongrois :
+     * chaque robot reçoit au plus un incendie et chaque incendie au plus un robot.
+     *
+     * @param contexte La simulation dans laquelle opère le chef pompier.
+     */
+    static public void AttributionOptimale(ContexteSimulation contexte) {
+        Carte carte = contexte.getCarte();
+        ArrayList<Robot> robotsLibres = new ArrayList<>();
+        ArrayList<Incendie> incendiesLibres = new ArrayList<>();
+        for (Robot robot : contexte.getDonnees().getListeRobots()) {
+            if (!robot.isOccupe() && robot.getVolEau() != 0) {
+                robotsLibres.add(robot);
+            }
+        }
+        for (Incendie incendie : contexte.getDonnees().getListeIncendies()) {
+            if (!incendie.isAttribue()) {
+                incendiesLibres.add(incendie);
+            }
+        }
+        if (robotsLibres.isEmpty() || incendiesLibres.isEmpty()) {
+            return;
+        }
+
+        double[][] temps = new double[robotsLibres.size()][incendiesLibres.size()];
+        ArrayList<ArrayList<LinkedList<Direction>>> chemins = new ArrayList<>();
+        for (int i = 0; i < robotsLibres.size(); i++) {
+            Robot robot = robotsLibres.get(i);
+            ArrayList<LinkedList<Direction>> cheminsRobot = new ArrayList<>();
+            for (int j = 0; j < incendiesLibres.size(); j++) {
+                Case caseFeu = incendiesLibres.get(j).getCaseFeu();
+                LinkedList<Direction> chemin = cheminSiAtteignable(contexte, robot, caseFeu);
+                cheminsRobot.add(chemin);
+                temps[i][j] = chemin == null ? Double.POSITIVE_INFINITY
+                        : robot.tempsDeplacement(robot.getCaseRobot(), caseFeu, carte, chemin);
+            }
+            chemins.add(cheminsRobot);
+        }
+
+        int[] affectation = AffectationHongroise.resout(temps);
+        for (int i = 0; i < affectation.length; i++) {
+            if (affectation[i] < 0) {
+                continue;
+            }
+            Robot robot = robotsLibres.get(i);
+            robot.setDeplacement(chemins.get(i).get(affectation[i]));
+            incendiesLibres.get(affectation[i]).setAttribue(true);
+            robot.setOccupe(true);
+            contexte.ajouteEvenement(new DebutDeplacement(contexte.getDateSimulation() + 1, robot, true, false));
+        }
+    }
 }
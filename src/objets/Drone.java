@@ -1,16 +1,11 @@
 package objets;
 
 import A_etoile.Astar;
-import gui.GUISimulator;
-import gui.ImageElement;
 import objets.Case.natureTerrain;
 import objets.Carte;
-import simulation.Simulateur;
 
 import java.util.LinkedList;
 
-import static simulation.Simulateur.getTailleCase;
-
 /**
  * Classe représentant un drone, qui est un type spécifique de robot.
  * Le drone peut se déplacer sur tous les types de terrain et possède des capacités spécifiques
@@ -81,7 +76,7 @@ public class Drone extends Robot {
     @Override
     public int tempsDeplacement(Case a, Case b, Carte carte, LinkedList<Carte.Direction> plusCourtChemin) {
         double vitesse = this.getVitesse(null);
-        int tailleCase = getTailleCase();
+        int tailleCase = this.getContexte().getTailleCase();
         return (int) (tailleCase * plusCourtChemin.size() / vitesse);
     }
 
@@ -133,20 +128,4 @@ public class Drone extends Robot {
         }
         this.setVolEau(0); // Le réservoir est vidé après l'intervention.
     }
-
-    /**
-     * Dessine l'image du drone sur l'interface graphique.
-     */
-    public void drawRobotAbstrait() {
-        Case caseRobot = super.getCaseRobot();
-        if (caseRobot == null) {
-            return;
-        }
-        int ligne = caseRobot.getLigne();
-        int colonne = caseRobot.getColonne();
-        String imagePath = "Images/DRONE.png";
-        int tailleCase = getTailleCase();
-        GUISimulator gui = Simulateur.getGui();
-        gui.addGraphicalElement(new ImageElement(colonne * tailleCase, ligne * tailleCase, imagePath, tailleCase, tailleCase, null));
-    }
 }
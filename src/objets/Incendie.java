@@ -1,14 +1,5 @@
 package objets;
 
-import gui.GUISimulator;
-import gui.ImageElement;
-import simulation.Simulateur;
-
-import java.util.ArrayList;
-
-import static simulation.Simulateur.getGui;
-import static simulation.Simulateur.getTailleCase;
-
 /**
  * Classe représentant un incendie sur une case de la carte.
  * Un incendie a une intensité (exprimée en litres d'eau nécessaires pour l'éteindre)
@@ -87,30 +78,4 @@ public class Incendie {
         public void setAttribue(boolean attribue) {
                 this.attribue = attribue;
         }
-
-        /**
-         * Dessine une liste d'incendies sur l'interface graphique.
-         *
-         * @param listeIncendies La liste des incendies à dessiner.
-         */
-        public static void drawIncendies(ArrayList<Incendie> listeIncendies) {
-                for (Incendie incendie : listeIncendies) {
-                        drawIncendie(incendie);
-                }
-        }
-
-        /**
-         * Dessine un incendie spécifique sur l'interface graphique.
-         *
-         * @param incendie L'incendie à dessiner.
-         */
-        public static void drawIncendie(Incendie incendie) {
-                Case caseIncendie = incendie.getCaseFeu();
-                int ligne = caseIncendie.getLigne();
-                int colonne = caseIncendie.getColonne();
-                String imagePath = "Images/feu.png";
-                GUISimulator gui = getGui();
-                int tailleCase = getTailleCase();
-                gui.addGraphicalElement(new ImageElement(colonne * tailleCase, ligne * tailleCase, imagePath, tailleCase, tailleCase, null));
-        }
 }
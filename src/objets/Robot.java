@@ -3,13 +3,11 @@ package objets;
 import evenements.Evenement;
 import objets.Case.natureTerrain;
 import objets.Carte.Direction;
+import simulation.ContexteSimulation;
 
-import java.util.ArrayList;
 import java.util.LinkedList;
 
 import static objets.Carte.Direction.*;
-import static objets.Carte.getTailleCases;
-import static objets.Carte.getVoisin;
 
 /**
  * Classe abstraite représentant un robot dans la simulation.
@@ -25,7 +23,10 @@ public abstract class Robot {
     private int tempsRemplissage; // Temps nécessaire pour remplir le réservoir (en secondes)
     private int tempsIntervention; // Temps nécessaire pour intervenir sur un incendie
     private boolean occupe; // Indique si le robot est occupé
+    private long debutOccupation; // Date à laquelle le robot est devenu occupé
+    private long tempsOccupe; // Durée cumulée pendant laquelle le robot a été occupé
     private typeRobot type; // Le type de robot
+    private ContexteSimulation contexte; // La simulation à laquelle appartient le robot
 
     private LinkedList<Direction> deplacement; // Liste des directions pour déplacer le robot
 
@@ -62,14 +63,51 @@ public abstract class Robot {
         this.type = type;
     }
 
+    /**
+     * Retourne la simulation à laquelle appartient le robot.
+     * @return Le contexte de simulation du robot.
+     */
+    public ContexteSimulation getContexte() {
+        return this.contexte;
+    }
+
+    /**
+     * Rattache le robot à une simulation.
+     * @param contexte Le contexte de simulation du robot.
+     */
+    public void setContexte(ContexteSimulation contexte) {
+        this.contexte = contexte;
+    }
+
     public boolean isOccupe() {
         return occupe;
     }
 
+    /**
+     * Modifie l'état d'occupation du robot et cumule la durée pendant laquelle il est occupé.
+     * @param occupe true si le robot devient occupé, false s'il devient disponible.
+     */
     public void setOccupe(boolean occupe) {
+        if (this.contexte != null && occupe != this.occupe) {
+            long date = this.contexte.getDateSimulation();
+            if (occupe) {
+                this.debutOccupation = date;
+            } else {
+                this.tempsOccupe += date - this.debutOccupation;
+            }
+        }
         this.occupe = occupe;
     }
 
+    /**
+     * Retourne la durée pendant laquelle le robot a été occupé jusqu'à une date donnée.
+     * @param date La date jusqu'à laquelle compter, au moins égale au début de l'occupation en cours.
+     * @return La durée d'occupation cumulée.
+     */
+    public long getTempsOccupe(long date) {
+        return this.occupe ? this.tempsOccupe + date - this.debutOccupation : this.tempsOccupe;
+    }
+
     public LinkedList<Direction> getDeplacement() {
         return this.deplacement;
     }
@@ -127,13 +165,18 @@ public abstract class Robot {
 
     /**
      * Déplace le robot vers une nouvelle case si elle est accessible.
+     * Si le robot est rattaché à une simulation, l'index d'occupation des cases est mis à jour.
      * @param src La case vers laquelle déplacer le robot.
      */
     public void deplaceRobot(Case src) {
         if (!caseAccessible(src)) {
             throw new IllegalArgumentException("Case non accessible");
         }
+        Case depart = this.caseRobot;
         this.caseRobot = src;
+        if (this.contexte != null) {
+            this.contexte.getDonnees().getOccupation().deplace(this, depart, src);
+        }
     }
 
     /**
@@ -142,11 +185,12 @@ public abstract class Robot {
      * @return true si une case voisine est de type EAU, false sinon.
      */
     protected boolean voisinEstEau(Case caseRobot) {
+        Carte carte = this.contexte.getCarte();
         Case[] voisins = {
-                getVoisin(caseRobot, NORD),
-                getVoisin(caseRobot, SUD),
-                getVoisin(caseRobot, EST),
-                getVoisin(caseRobot, OUEST)
+                carte.getVoisin(caseRobot, NORD),
+                carte.getVoisin(caseRobot, SUD),
+                carte.getVoisin(caseRobot, EST),
+                carte.getVoisin(caseRobot, OUEST)
         };
         for (Case voisin : voisins) {
             if (voisin != null && voisin.getNature() == natureTerrain.EAU) {
@@ -167,7 +211,7 @@ public abstract class Robot {
         if (vitesse == 0) {
             throw new IllegalArgumentException("Le robot ne peut pas se déplacer sur ce type de terrain.");
         }
-        return getTailleCases() / vitesse; // Temps de déplacement = taille de la case / vitesse.
+        return this.contexte.getCarte().getTailleCases() / vitesse; // Temps de déplacement = taille de la case / vitesse.
     }
 
     /**
@@ -179,43 +223,20 @@ public abstract class Robot {
      * @return Le temps de déplacement en secondes.
      */
     public int tempsDeplacement(Case a, Case b, Carte carte, LinkedList<Direction> plusCourtChemin) {
-        int tailleCase = simulation.Simulateur.getTailleCase();
+        int tailleCase = this.contexte.getTailleCase();
         double sommeVitesse = 0;
         Case caseCourante = a;
 
         for (Direction dir : plusCourtChemin) {
             sommeVitesse += this.getVitesse(caseCourante.getNature());
-            caseCourante = Carte.getVoisin(caseCourante, dir);
+            caseCourante = carte.getVoisin(caseCourante, dir);
         }
 
         return (int) ((tailleCase * plusCourtChemin.size()) / (sommeVitesse / plusCourtChemin.size()));
     }
 
-    /**
-     * Dessine tous les robots de la liste.
-     * @param listeRobot Liste des robots à dessiner.
-     */
-    public static void drawRobots(ArrayList<Robot> listeRobot) {
-        for (Robot r : listeRobot) {
-            r.drawRobotAbstrait();
-        }
-    }
-
-    /**
-     * Dessine un robot spécifique.
-     * @param robot Le robot à dessiner.
-     */
-    public static void drawRobot(Robot robot) {
-        robot.drawRobotAbstrait();
-    }
-
     // ==== MÉTHODES ABSTRAITES ====
 
-    /**
-     * Méthode abstraite pour dessiner le robot.
-     */
-    public abstract void drawRobotAbstrait();
-
     /**
      * Retourne la vitesse du robot en fonction de la nature du terrain.
      * @param natureTerrain Le type de terrain.
@@ -1,8 +1,5 @@
 package objets;
 
-import gui.GUISimulator;
-import gui.ImageElement;
-import simulation.Simulateur;
 import objets.Case.natureTerrain;
 
 public class RobotAChenilles extends Robot {
@@ -115,17 +112,4 @@ public class RobotAChenilles extends Robot {
         }
         this.setVolEau(j);
     }
-
-    public void  drawRobotAbstrait() {
-        Case caseRobot = super.getCaseRobot();
-        if (caseRobot == null) {
-            return;
-        }
-        int ligne = caseRobot.getLigne();
-        int colonne = caseRobot.getColonne();
-        String imagePath = "Images/CHENILLES.png";
-        int tailleCase = Simulateur.getTailleCase();
-        GUISimulator gui = Simulateur.getGui();
-        gui.addGraphicalElement(new ImageElement(colonne * tailleCase, ligne * tailleCase, imagePath, tailleCase, tailleCase, null));
-    }
 }
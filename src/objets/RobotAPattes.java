@@ -1,9 +1,6 @@
 package objets;
 
-import gui.GUISimulator;
-import gui.ImageElement;
 import objets.Case.natureTerrain;
-import simulation.Simulateur;
 
 /**
  * Classe représentant un robot à pattes.
@@ -90,32 +87,4 @@ public class RobotAPattes extends Robot {
             incendie.setNbEau(0); // L'incendie est complètement éteint.
         }
     }
-
-    /**
-     * Dessine le robot à pattes sur la carte à l'aide d'une image.
-     * La position de l'image est déterminée par la position actuelle du robot sur la carte.
-     */
-    @Override
-    public void drawRobotAbstrait() {
-        Case caseRobot = super.getCaseRobot();
-        if (caseRobot == null) {
-            return; // Pas de case associée au robot.
-        }
-
-        int ligne = caseRobot.getLigne();
-        int colonne = caseRobot.getColonne();
-        String imagePath = "Images/PATTES.png"; // Chemin de l'image représentant le robot.
-        int tailleCase = Simulateur.getTailleCase();
-        GUISimulator gui = Simulateur.getGui();
-
-        // Ajoute l'image du robot à l'interface graphique.
-        gui.addGraphicalElement(new ImageElement(
-                colonne * tailleCase,
-                ligne * tailleCase,
-                imagePath,
-                tailleCase,
-                tailleCase,
-                null
-        ));
-    }
 }
@@ -1,12 +1,7 @@
 package objets;
 
 import A_etoile.Astar;
-import gui.GUISimulator;
-import gui.ImageElement;
 import objets.Case.natureTerrain;
-import simulation.Simulateur;
-
-import static simulation.Simulateur.getTailleCase;
 
 /**
  * Classe représentant un robot à roues.
@@ -118,31 +113,4 @@ public class RobotARoue extends Robot {
         int nouveauVolEau = this.getVolEau() - 100;
         this.setVolEau(Math.max(nouveauVolEau, 0)); // Le volume d'eau ne peut pas être négatif.
     }
-
-    /**
-     * Dessine le robot à roues sur la carte.
-     * L'image est positionnée en fonction des coordonnées actuelles du robot.
-     */
-    @Override
-    public void drawRobotAbstrait() {
-        Case caseRobot = super.getCaseRobot();
-        if (caseRobot == null) {
-            return;
-        }
-
-        int ligne = caseRobot.getLigne();
-        int colonne = caseRobot.getColonne();
-        String imagePath = "Images/ROUES.png"; // Chemin de l'image.
-        int tailleCase = Simulateur.getTailleCase();
-        GUISimulator gui = Simulateur.getGui();
-
-        gui.addGraphicalElement(new ImageElement(
-                colonne * tailleCase,
-                ligne * tailleCase,
-                imagePath,
-                tailleCase,
-                tailleCase,
-                null
-        ));
-    }
 }
@@ -0,0 +1,404 @@
+package simulation;
+
+import A_etoile.Astar;
+import A_etoile.CacheChemins;
+import A_etoile.ChampRemplissage;
+import A_etoile.ComposantesConnexes;
+import A_etoile.GrapheHierarchique;
+import affichage.Instantane;
+import affichage.Rendu;
+import evenements.Evenement;
+import evenements.PropagationIncendie;
+import objets.Carte;
+import objets.Case;
+import objets.ChefPompier;
+import objets.Incendie;
+import objets.Robot;
+
+import java.io.FileNotFoundException;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.zip.DataFormatException;
+
+import static io.LecteurDonnees.creeDonnees;
+
+/**
+ * Classe regroupant tout l'état d'une simulation : les données (carte, robots, incendies),
+ * le calendrier des événements, la date courante et le rendu.
+ * Les événements et les robots accèdent à l'état de la simulation à travers leur contexte,
+ * si bien que plusieurs simulations indépendantes peuvent s'exécuter en même temps,
+ * chacune dans son propre thread.
+ */
+public class ContexteSimulation {
+    /**
+     * Nombre maximal de chemins conservés par le cache de chemins.
+     */
+    public static final int CAPACITE_CACHE_CHEMINS = 4096;
+
+    private final DonneesSimulation donnees; // Données de la simulation
+    private final Rendu rendu; // Rendu utilisé pour afficher la simulation
+    private final String attribution; // Type d'attribution utilisé par le chef pompier
+    private final TreeMap<Long, LinkedList<Evenement>> evenements; // Calendrier des événements, trié par date
+    private long dateSimulation; // Date actuelle de la simulation
+    private long nbEvenementsExecutes; // Nombre d'événements exécutés depuis le début
+    private final int tailleCase; // Taille d'une case à l'affichage, en pixels
+    private final BitSet casesBrulees; // Indices des cases ayant brûlé depuis le début
+    private long dateExtinction; // Date à laquelle le dernier incendie a été éteint, -1 s'il en reste
+    private SplittableRandom aleatoire; // Générateur utilisé par les événements aléatoires
+    private final EnumMap<Robot.typeRobot, ChampRemplissage> champsRemplissage; // Chemins vers l'eau, par type de robot
+    private final EnumMap<Robot.typeRobot, ComposantesConnexes> composantes; // Zones atteignables, par type de robot
+    private Astar.Moteur moteur; // Moteur de recherche de chemin de cette simulation
+    private CacheChemins cacheChemins; // Plus courts chemins déjà calculés avec ce moteur
+    private int versionTerrain; // Version du terrain pour laquelle les structures de recherche ont été calculées
+
+    /**
+     * Constructeur du contexte de simulation.
+     * Rattache les robots à ce contexte et calcule la taille des cases à partir
+     * des dimensions du rendu.
+     *
+     * @param donnees     Les données de la simulation.
+     * @param rendu       Le rendu utilisé pour afficher la simulation.
+     * @param attribution Le type d'attribution choisi pour le chef pompier, ou null.
+     */
+    public ContexteSimulation(DonneesSimulation donnees, Rendu rendu, String attribution) {
+        this.donnees = donnees;
+        this.rendu = rendu;
+        this.attribution = attribution;
+        this.evenements = new TreeMap<>();
+        this.dateSimulation = 0L;
+        this.nbEvenementsExecutes = 0;
+        Carte carte = donnees.getCarte();
+        this.tailleCase = Math.min(rendu.getHauteur() / carte.getNbColonnes(), rendu.getLargeur() / carte.getNbLignes());
+        this.champsRemplissage = new EnumMap<>(Robot.typeRobot.class);
+        this.composantes = new EnumMap<>(Robot.typeRobot.class);
+        this.moteur = Astar.MOTEUR_PAR_DEFAUT;
+        this.cacheChemins = new CacheChemins(carte, this.moteur, CAPACITE_CACHE_CHEMINS);
+        this.versionTerrain = carte.getVersionTerrain();
+        for (Robot robot : donnees.getListeRobots()) {
+            robot.setContexte(this);
+            this.champsRemplissage.computeIfAbsent(robot.getTypeRobot(), type -> new ChampRemplissage(carte, type));
+            this.composantes.computeIfAbsent(robot.getTypeRobot(), type -> new ComposantesConnexes(carte, type));
+        }
+        this.casesBrulees = new BitSet(carte.getNbLignes() * carte.getNbColonnes());
+        for (Incendie incendie : donnees.getListeIncendies()) {
+            this.casesBrulees.set(carte.getIndice(incendie.getCaseFeu()));
+        }
+        this.dateExtinction = donnees.getListeIncendies().isEmpty() ? 0L : -1L;
+        this.aleatoire = new SplittableRandom();
+    }
+
+    /**
+     * Charge une simulation à partir d'un fichier.
+     *
+     * @param fichier     Le fichier contenant les données de simulation.
+     * @param rendu       Le rendu utilisé pour afficher la simulation.
+     * @param attribution Le type d'attribution choisi pour le chef pompier, ou null.
+     * @return Le contexte de la simulation chargée.
+     * @throws DataFormatException En cas d'erreur de format dans le fichier.
+     * @throws FileNotFoundException Si le fichier n'est pas trouvé.
+     */
+    public static ContexteSimulation charge(String fichier, Rendu rendu, String attribution)
+            throws DataFormatException, FileNotFoundException {
+        return new ContexteSimulation(creeDonnees(fichier), rendu, attribution);
+    }
+
+    /**
+     * Retourne les données de la simulation.
+     *
+     * @return Les données de la simulation.
+     */
+    public DonneesSimulation getDonnees() {
+        return this.donnees;
+    }
+
+    /**
+     * Retourne la carte de la simulation.
+     *
+     * @return La carte de la simulation.
+     */
+    public Carte getCarte() {
+        return this.donnees.getCarte();
+    }
+
+    /**
+     * Retourne le rendu utilisé par la simulation.
+     *
+     * @return Le rendu de la simulation.
+     */
+    public Rendu getRendu() {
+        return this.rendu;
+    }
+
+    /**
+     * Retourne la date actuelle de la simulation.
+     *
+     * @return La date actuelle.
+     */
+    public long getDateSimulation() {
+        return this.dateSimulation;
+    }
+
+    /**
+     * Retourne le nombre d'événements exécutés depuis le début de la simulation.
+     *
+     * @return Le nombre d'événements exécutés.
+     */
+    public long getNbEvenementsExecutes() {
+        return this.nbEvenementsExecutes;
+    }
+
+    /**
+     * Retourne la taille des cases à l'affichage.
+     *
+     * @return La taille des cases, en pixels.
+     */
+    public int getTailleCase() {
+        return this.tailleCase;
+    }
+
+    /**
+     * Retourne le champ de remplissage d'un type de robot, calculé au chargement de la simulation.
+     *
+     * @param type Le type de robot.
+     * @return Le champ de distances vers les cases de remplissage de ce type.
+     */
+    public ChampRemplissage getChampRemplissage(Robot.typeRobot type) {
+        verifieTerrain();
+        return this.champsRemplissage.computeIfAbsent(type, t -> new ChampRemplissage(getCarte(), t));
+    }
+
+    /**
+     * Retourne le moteur de recherche de chemin de la simulation.
+     *
+     * @return Le moteur de recherche.
+     */
+    public Astar.Moteur getMoteur() {
+        return this.moteur;
+    }
+
+    /**
+     * Définit le moteur de recherche de chemin de la simulation. Les chemins déjà calculés
+     * avec un autre moteur sont oubliés.
+     *
+     * @param moteur Le moteur à utiliser.
+     */
+    public void setMoteur(Astar.Moteur moteur) {
+        if (moteur != this.moteur) {
+            this.moteur = moteur;
+            this.cacheChemins = new CacheChemins(getCarte(), moteur, CAPACITE_CACHE_CHEMINS);
+        }
+    }
+
+    /**
+     * Retourne le cache des plus courts chemins de la simulation.
+     *
+     * @return Le cache de chemins.
+     */
+    public CacheChemins getCacheChemins() {
+        verifieTerrain();
+        return this.cacheChemins;
+    }
+
+    /**
+     * Retourne les composantes connexes de la carte pour un type de robot, calculées au chargement de la simulation
+     * puis après chaque modification du terrain.
+     *
+     * @param type Le type de robot.
+     * @return L'étiquetage des composantes connexes pour ce type.
+     */
+    public ComposantesConnexes getComposantes(Robot.typeRobot type) {
+        verifieTerrain();
+        return this.composantes.computeIfAbsent(type, t -> new ComposantesConnexes(getCarte(), t));
+    }
+
+    /**
+     * Oublie tout ce qui a été calculé à partir du terrain si celui-ci a changé depuis : champs de
+     * remplissage, composantes connexes, graphes hiérarchiques et cache de chemins. Les champs et
+     * les composantes sont recalculés à leur prochaine utilisation, de même que les graphes.
+     */
+    private void verifieTerrain() {
+        Carte carte = getCarte();
+        if (carte.getVersionTerrain() == this.versionTerrain) {
+            return;
+        }
+        this.versionTerrain = carte.getVersionTerrain();
+        this.champsRemplissage.clear();
+        this.composantes.clear();
+        GrapheHierarchique.oublie(carte);
+        this.cacheChemins.invalide();
+    }
+
+    /**
+     * Indique si un robot peut atteindre une case depuis sa position actuelle.
+     *
+     * @param robot Le robot.
+     * @param destination La case à atteindre.
+     * @return true si un chemin existe, false sinon.
+     */
+    public boolean estAtteignable(Robot robot, Case destination) {
+        Carte carte = getCarte();
+        return getComposantes(robot.getTypeRobot())
+                .sontConnectees(carte.getIndice(robot.getCaseRobot()), carte.getIndice(destination));
+    }
+
+    /**
+     * Retourne le générateur aléatoire de la simulation.
+     *
+     * @return Le générateur utilisé par les événements aléatoires.
+     */
+    public SplittableRandom getAleatoire() {
+        return this.aleatoire;
+    }
+
+    /**
+     * Active la propagation aléatoire des incendies.
+     * Les tirages sont faits avec le générateur donné, propre à cette simulation, si bien que
+     * deux simulations activées avec des générateurs de même graine se déroulent à l'identique.
+     *
+     * @param aleatoire   Le générateur utilisé pour la propagation.
+     * @param periode     La durée entre deux tentatives de propagation.
+     * @param probabilite La probabilité qu'un incendie se propage à chaque tentative.
+     */
+    public void activePropagation(SplittableRandom aleatoire, long periode, double probabilite) {
+        this.aleatoire = aleatoire;
+        if (!this.donnees.getListeIncendies().isEmpty()) {
+            ajouteEvenement(new PropagationIncendie(this.dateSimulation + periode, periode, probabilite));
+        }
+    }
+
+    /**
+     * Allume un nouvel incendie sur une case et le mémorise parmi les cases brûlées.
+     *
+     * @param caseFeu La case où se déclare l'incendie.
+     * @param nbEau   Le nombre de litres d'eau nécessaires pour l'éteindre.
+     * @return Le nouvel incendie.
+     */
+    public Incendie allumeIncendie(Case caseFeu, int nbEau) {
+        Incendie incendie = new Incendie(caseFeu, nbEau);
+        this.donnees.addIncendie(incendie);
+        this.casesBrulees.set(getCarte().getIndice(caseFeu));
+        return incendie;
+    }
+
+    /**
+     * Retourne le nombre de cases ayant brûlé depuis le début de la simulation.
+     *
+     * @return Le nombre de cases brûlées.
+     */
+    public int getNbCasesBrulees() {
+        return this.casesBrulees.cardinality();
+    }
+
+    /**
+     * Retourne la date à laquelle le dernier incendie a été éteint.
+     *
+     * @return La date d'extinction, ou -1 s'il reste des incendies.
+     */
+    public long getDateExtinction() {
+        return this.dateExtinction;
+    }
+
+    /**
+     * Ajoute un événement au calendrier et le rattache à cette simulation.
+     *
+     * @param evenement L'événement à ajouter.
+     */
+    public void ajouteEvenement(Evenement evenement) {
+        evenement.setContexte(this);
+        this.evenements.computeIfAbsent(evenement.getDate(), date -> new LinkedList<>()).add(evenement);
+    }
+
+    /**
+     * Vérifie si la simulation est terminée, c'est-à-dire si plus aucun événement n'est planifié.
+     *
+     * @return true si la simulation est terminée, false sinon.
+     */
+    public boolean simulationTerminee() {
+        return this.evenements.isEmpty();
+    }
+
+    /**
+     * Avance jusqu'à la prochaine date où des événements sont planifiés, exécute ces événements
+     * et attribue les incendies selon la stratégie sélectionnée.
+     */
+    public void next() {
+        if (simulationTerminee()) {
+            return;
+        }
+        Map.Entry<Long, LinkedList<Evenement>> prochains = this.evenements.pollFirstEntry();
+        this.dateSimulation = prochains.getKey();
+        for (Evenement e : prochains.getValue()) {
+            e.execute();
+        }
+        this.nbEvenementsExecutes += prochains.getValue().size();
+        if (this.dateExtinction < 0 && this.donnees.getListeIncendies().isEmpty()) {
+            this.dateExtinction = this.dateSimulation;
+        }
+        if (this.attribution != null) {
+            attribue();
+        }
+    }
+
+    /**
+     * Exécute la simulation jusqu'à épuisement des événements ou jusqu'à une date limite.
+     *
+     * @param dateMax La date au-delà de laquelle la simulation est interrompue.
+     */
+    public void executeJusquA(long dateMax) {
+        while (!simulationTerminee() && this.dateSimulation <= dateMax) {
+            next();
+        }
+    }
+
+    /**
+     * Attribue les incendies aux robots selon la stratégie choisie pour le chef pompier.
+     */
+    public void attribue() {
+        switch (this.attribution) {
+            case "simple":
+                ChefPompier.AttributionSimple(this);
+                break;
+            case "avancee":
+                ChefPompier.AttributionAvancee(this);
+                break;
+            case "reflechie":
+                ChefPompier.AttributionReflechie(this);
+                break;
+            case "optimale":
+                ChefPompier.AttributionOptimale(this);
+                break;
+            default:
+                System.out.println("Veuillez entrer l'une des attributions possibles : simple, avancee, reflechie ou optimale");
+                break;
+        }
+    }
+
+    /**
+     * Capture l'état courant des incendies et des robots dans un instantané immuable.
+     *
+     * @return L'instantané de la simulation à la date courante.
+     */
+    public Instantane capture() {
+        return Instantane.capture(this.dateSimulation, simulationTerminee(), getCarte().getNbColonnes(),
+                this.donnees.getListeIncendies(), this.donnees.getListeRobots());
+    }
+
+    /**
+     * Efface le rendu puis dessine la carte avec ses cases, incendies et robots.
+     */
+    public void dessine() {
+        Carte carte = getCarte();
+        this.rendu.efface(this.tailleCase);
+        this.rendu.dessineCarte(carte);
+        for (Incendie incendie : this.donnees.getListeIncendies()) {
+            this.rendu.dessineIncendie(incendie);
+        }
+        for (Robot robot : this.donnees.getListeRobots()) {
+            this.rendu.dessineRobot(robot);
+        }
+    }
+}
@@ -11,67 +11,85 @@ import java.util.ArrayList;
  * Classe représentant les données de simulation.
  * Cette classe centralise toutes les informations nécessaires à la simulation,
  * telles que les robots, les incendies, les cases contenant de l'eau et la carte.
+ * Chaque instance est indépendante, ce qui permet de charger plusieurs simulations à la fois.
  */
 public class DonneesSimulation {
 
     // Liste des robots présents dans la simulation
-    private static ArrayList<Robot> listeRobot;
+    private ArrayList<Robot> listeRobot;
 
     // Liste des incendies présents sur la carte
-    private static ArrayList<Incendie> listeIncendie;
+    private ArrayList<Incendie> listeIncendie;
+
+    // Incendies indexés par l'indice de leur case, pour les retrouver sans parcourir la liste
+    private TableIndexee<Incendie> incendiesParCase;
+
+    // Robots indexés par la case qu'ils occupent, créé avec la carte
+    private OccupationRobots occupation;
 
     // Liste des cases contenant de l'eau
-    private static ArrayList<Case> listeEau;
+    private ArrayList<Case> listeEau;
 
     // Carte représentant l'environnement de la simulation
-    private static Carte carte;
+    private Carte carte;
 
     /**
      * Constructeur de la classe DonneesSimulation.
-     * Initialise les listes pour les robots et les incendies.
+     * Initialise les listes pour les robots, les incendies et les cases d'eau.
      */
     public DonneesSimulation() {
         listeRobot = new ArrayList<>();
         listeIncendie = new ArrayList<>();
+        incendiesParCase = new TableIndexee<>();
+        listeEau = new ArrayList<>();
     }
 
     /**
      * Ajoute un robot à la liste des robots.
+     * La carte doit avoir été définie, le robot étant indexé par la case qu'il occupe.
      *
      * @param robot Le robot à ajouter.
      */
     public void addRobot(Robot robot) {
         listeRobot.add(robot);
+        occupation.ajoute(robot);
     }
 
     /**
      * Ajoute un incendie à la liste des incendies.
-     * Si la liste est nulle, elle est initialisée avant l'ajout.
+     * La carte doit avoir été définie, l'incendie étant indexé par l'indice de sa case.
      *
      * @param incendie L'incendie à ajouter.
+     * @throws IllegalArgumentException Si un incendie se trouve déjà sur la case.
      */
     public void addIncendie(Incendie incendie) {
-        if (listeIncendie != null) {
-            listeIncendie.add(incendie);
-        } else {
-            listeIncendie = new ArrayList<>();
-            listeIncendie.add(incendie);
+        if (incendiesParCase.get(carte.getIndice(incendie.getCaseFeu())) != null) {
+            throw new IllegalArgumentException("Un incendie se trouve déjà sur la case ("
+                    + incendie.getCaseFeu().getLigne() + ", " + incendie.getCaseFeu().getColonne() + ").");
+        }
+        incendiesParCase.ajoute(carte.getIndice(incendie.getCaseFeu()), incendie);
+        listeIncendie.add(incendie);
+    }
+
+    /**
+     * Retire un incendie éteint.
+     * La liste des incendies garde son ordre, dont dépendent les stratégies d'attribution.
+     *
+     * @param incendie L'incendie à retirer.
+     */
+    public void retireIncendie(Incendie incendie) {
+        if (incendiesParCase.retire(carte.getIndice(incendie.getCaseFeu())) != null) {
+            listeIncendie.remove(incendie);
         }
     }
 
     /**
      * Ajoute une case contenant de l'eau à la liste des cases d'eau.
-     * Si la liste est nulle, elle est initialisée avant l'ajout.
      *
      * @param eau La case contenant de l'eau à ajouter.
      */
     public void addEau(Case eau) {
-        if (listeEau != null) {
-            listeEau.add(eau);
-        } else {
-            listeEau = new ArrayList<>();
-            listeEau.add(eau);
-        }
+        listeEau.add(eau);
     }
 
     /**
@@ -81,6 +99,10 @@ public class DonneesSimulation {
      */
     public void setCarte(Carte newCarte) {
         carte = newCarte;
+        occupation = new OccupationRobots(newCarte);
+        for (Robot robot : listeRobot) {
+            occupation.ajoute(robot);
+        }
     }
 
     /**
@@ -88,7 +110,7 @@ public class DonneesSimulation {
      *
      * @return La carte de simulation.
      */
-    public static Carte getCarte() {
+    public Carte getCarte() {
         return carte;
     }
 
@@ -97,31 +119,63 @@ public class DonneesSimulation {
      *
      * @return Une liste contenant les robots.
      */
-    public static ArrayList<Robot> getListeRobots() {
+    public ArrayList<Robot> getListeRobots() {
         return listeRobot;
     }
 
-    public static void setListeRobots(ArrayList<Robot> listeRobots){listeRobot=listeRobots;}
+    /**
+     * Retourne l'index des robots par case occupée.
+     *
+     * @return L'index d'occupation.
+     */
+    public OccupationRobots getOccupation() {
+        return occupation;
+    }
 
     /**
      * Retourne la liste des incendies présents sur la carte.
      *
      * @return Une liste contenant les incendies.
      */
-    public static ArrayList<Incendie> getListeIncendies() {
+    public ArrayList<Incendie> getListeIncendies() {
         return listeIncendie;
     }
 
-    public static void setListeIncendies(ArrayList<Incendie> listeIncendies){listeIncendie=listeIncendies;}
+    /**
+     * Retourne l'incendie situé sur une case donnée.
+     *
+     * @param caseFeu La case recherchée.
+     * @return L'incendie de la case, ou null si la case ne brûle pas.
+     */
+    public Incendie getIncendie(Case caseFeu) {
+        return incendiesParCase.get(carte.getIndice(caseFeu));
+    }
+
+    /**
+     * Retourne l'incendie situé sur une case donnée par son indice.
+     *
+     * @param indice L'indice de la case (ligne * nbColonnes + colonne).
+     * @return L'incendie de la case, ou null si la case ne brûle pas.
+     */
+    public Incendie getIncendie(int indice) {
+        return incendiesParCase.get(indice);
+    }
+
+    /**
+     * Retourne le nombre d'incendies présents sur la carte.
+     *
+     * @return Le nombre d'incendies.
+     */
+    public int getNbIncendies() {
+        return incendiesParCase.getTaille();
+    }
 
     /**
      * Retourne la liste des cases contenant de l'eau.
      *
      * @return Une liste contenant les cases d'eau.
      */
-    public static ArrayList<Case> getListeEau() {
+    public ArrayList<Case> getListeEau() {
         return listeEau;
     }
-
-    public static void setListeEau(ArrayList<Case> listeEaux){listeEau=listeEaux;}
 }
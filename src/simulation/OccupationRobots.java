@@ -0,0 +1,156 @@
+package simulation;
+
+import objets.Carte;
+import objets.Case;
+import objets.Robot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Index des robots par case occupée. Chaque case occupée est associée à la liste des robots
+ * qui s'y trouvent, dans une {@link TableIndexee} : savoir qui se trouve sur une case coûte O(1),
+ * et déplacer un robot coûte O(nombre de robots sur ses cases de départ et d'arrivée).
+ * L'index est tenu à jour par {@link Robot#deplaceRobot(Case)} pour les robots rattachés à un contexte.
+ */
+public class OccupationRobots {
+
+    /**
+     * Nombre de colonnes de la carte, pour calculer l'indice des cases.
+     */
+    private final int nbColonnes;
+
+    /**
+     * Nombre de lignes de la carte.
+     */
+    private final int nbLignes;
+
+    /**
+     * Robots de chaque case occupée ; une case libérée est retirée de la table.
+     */
+    private final TableIndexee<ArrayList<Robot>> robotsParCase;
+
+    /**
+     * Nombre total de robots indexés.
+     */
+    private int nbRobots;
+
+    /**
+     * Construit un index vide pour une carte.
+     *
+     * @param carte La carte de la simulation.
+     */
+    public OccupationRobots(Carte carte) {
+        this.nbLignes = carte.getNbLignes();
+        this.nbColonnes = carte.getNbColonnes();
+        this.robotsParCase = new TableIndexee<>();
+    }
+
+    /**
+     * Ajoute un robot sur sa case actuelle.
+     *
+     * @param robot Le robot à indexer.
+     */
+    public void ajoute(Robot robot) {
+        ajoute(robot, indice(robot.getCaseRobot()));
+        this.nbRobots++;
+    }
+
+    /**
+     * Déplace un robot d'une case à une autre.
+     *
+     * @param robot    Le robot déplacé.
+     * @param depart   La case que le robot quitte.
+     * @param arrivee  La case où le robot arrive.
+     */
+    public void deplace(Robot robot, Case depart, Case arrivee) {
+        int indiceDepart = indice(depart);
+        int indiceArrivee = indice(arrivee);
+        if (indiceDepart == indiceArrivee) {
+            return;
+        }
+        ArrayList<Robot> robots = this.robotsParCase.get(indiceDepart);
+        if (robots == null || !robots.remove(robot)) {
+            throw new IllegalStateException("Le robot n'est pas indexé sur sa case de départ.");
+        }
+        if (robots.isEmpty()) {
+            this.robotsParCase.retire(indiceDepart);
+        }
+        ajoute(robot, indiceArrivee);
+    }
+
+    /**
+     * Retourne les robots présents sur une case, dans l'ordre de leur arrivée.
+     *
+     * @param position La case.
+     * @return La liste, non modifiable, des robots de la case (vide si aucun).
+     */
+    public List<Robot> getRobots(Case position) {
+        ArrayList<Robot> robots = this.robotsParCase.get(indice(position));
+        return robots == null ? Collections.emptyList() : Collections.unmodifiableList(robots);
+    }
+
+    /**
+     * Retourne le premier robot arrivé sur une case.
+     *
+     * @param position La case.
+     * @return Un robot de la case, ou null si elle est libre.
+     */
+    public Robot getPremierRobot(Case position) {
+        ArrayList<Robot> robots = this.robotsParCase.get(indice(position));
+        return robots == null ? null : robots.get(0);
+    }
+
+    /**
+     * Retourne les robots situés à une distance euclidienne (en cases) d'au plus un rayon donné d'une case.
+     * Les cases du carré englobant sont parcourues lorsqu'elles sont moins nombreuses que les robots,
+     * sinon ce sont les cases occupées qui le sont : le coût est O(min(r², nombre de robots)).
+     *
+     * @param centre Le centre de la recherche.
+     * @param rayon  Le rayon de la recherche, en cases.
+     * @return Les robots trouvés.
+     */
+    public List<Robot> getRobotsDansRayon(Case centre, int rayon) {
+        ArrayList<Robot> resultat = new ArrayList<>();
+        long rayonCarre = (long) rayon * rayon;
+        long cote = 2L * rayon + 1;
+        if (cote * cote <= this.nbRobots) {
+            for (int ligne = Math.max(0, centre.getLigne() - rayon); ligne <= Math.min(this.nbLignes - 1, centre.getLigne() + rayon); ligne++) {
+                for (int colonne = Math.max(0, centre.getColonne() - rayon); colonne <= Math.min(this.nbColonnes - 1, centre.getColonne() + rayon); colonne++) {
+                    long dl = ligne - centre.getLigne();
+                    long dc = colonne - centre.getColonne();
+                    ArrayList<Robot> robots = this.robotsParCase.get(ligne * this.nbColonnes + colonne);
+                    if (robots != null && dl * dl + dc * dc <= rayonCarre) {
+                        resultat.addAll(robots);
+                    }
+                }
+            }
+        } else {
+            this.robotsParCase.pourChaque((indice, robots) -> {
+                long dl = indice / this.nbColonnes - centre.getLigne();
+                long dc = indice % this.nbColonnes - centre.getColonne();
+                if (dl * dl + dc * dc <= rayonCarre) {
+                    resultat.addAll(robots);
+                }
+            });
+        }
+        return resultat;
+    }
+
+    /**
+     * Ajoute un robot à la liste d'une case.
+     */
+    private void ajoute(Robot robot, int indice) {
+        ArrayList<Robot> robots = this.robotsParCase.get(indice);
+        if (robots == null) {
+            robots = new ArrayList<>(2);
+            this.robotsParCase.ajoute(indice, robots);
+        }
+        robots.add(robot);
+    }
+
+    private int indice(Case position) {
+        return position.getLigne() * this.nbColonnes + position.getColonne();
+    }
+}
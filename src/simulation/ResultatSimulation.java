@@ -0,0 +1,93 @@
+package simulation;
+
+import A_etoile.Astar;
+
+/**
+ * Résultat d'une simulation exécutée sans affichage.
+ */
+public class ResultatSimulation {
+    private final String fichier; // Fichier de la carte simulée
+    private final String attribution; // Type d'attribution utilisé par le chef pompier
+    private final Astar.Moteur moteur; // Moteur de recherche de chemin utilisé par les robots
+    private final long dateFinale; // Date de la simulation à la fin de l'exécution
+    private final long nbEvenements; // Nombre d'événements exécutés
+    private final int incendiesRestants; // Nombre d'incendies non éteints à la fin
+    private final long dureeNanos; // Temps réel écoulé, en nanosecondes
+    private final long succesCache; // Nombre de chemins trouvés dans le cache de chemins
+    private final long echecsCache; // Nombre de chemins calculés faute d'être dans le cache
+
+    /**
+     * Constructeur d'un résultat de simulation.
+     *
+     * @param fichier           Le fichier de la carte simulée.
+     * @param attribution       Le type d'attribution utilisé.
+     * @param moteur            Le moteur de recherche de chemin utilisé.
+     * @param dateFinale        La date de la simulation à la fin de l'exécution.
+     * @param nbEvenements      Le nombre d'événements exécutés.
+     * @param incendiesRestants Le nombre d'incendies non éteints.
+     * @param dureeNanos        Le temps réel écoulé, en nanosecondes.
+     * @param succesCache       Le nombre de chemins trouvés dans le cache de chemins.
+     * @param echecsCache       Le nombre de chemins calculés faute d'être dans le cache.
+     */
+    public ResultatSimulation(String fichier, String attribution, Astar.Moteur moteur, long dateFinale,
+                              long nbEvenements, int incendiesRestants, long dureeNanos,
+                              long succesCache, long echecsCache) {
+        this.fichier = fichier;
+        this.attribution = attribution;
+        this.moteur = moteur;
+        this.dateFinale = dateFinale;
+        this.nbEvenements = nbEvenements;
+        this.incendiesRestants = incendiesRestants;
+        this.dureeNanos = dureeNanos;
+        this.succesCache = succesCache;
+        this.echecsCache = echecsCache;
+    }
+
+    public String getFichier() {
+        return this.fichier;
+    }
+
+    public String getAttribution() {
+        return this.attribution;
+    }
+
+    public Astar.Moteur getMoteur() {
+        return this.moteur;
+    }
+
+    public long getDateFinale() {
+        return this.dateFinale;
+    }
+
+    public long getNbEvenements() {
+        return this.nbEvenements;
+    }
+
+    public int getIncendiesRestants() {
+        return this.incendiesRestants;
+    }
+
+    public long getDureeNanos() {
+        return this.dureeNanos;
+    }
+
+    public long getSuccesCache() {
+        return this.succesCache;
+    }
+
+    public long getEchecsCache() {
+        return this.echecsCache;
+    }
+
+    /**
+     * Retourne une représentation textuelle du résultat, sur une ligne.
+     *
+     * @return Le résultat sous forme de chaîne de caractères.
+     */
+    @Override
+    public String toString() {
+        return String.format("%s [%s] date finale = %d, événements = %d, incendies restants = %d, temps réel = %.3f ms",
+                this.fichier, this.attribution, this.dateFinale, this.nbEvenements, this.incendiesRestants,
+                this.dureeNanos / 1e6);
+    }
+}
@@ -1,78 +1,37 @@
 package simulation;
 
-import evenements.Evenement;
+import A_etoile.Astar;
+import affichage.Rendu;
+import affichage.RenduGUI;
 import gui.*;
-import objets.*;
 
-import java.io.File;
 import java.io.FileNotFoundException;
-import java.util.*;
 import java.util.zip.DataFormatException;
 
 import static io.LecteurDonnees.creeDonnees;
-import static objets.Carte.drawCarte;
 
 /**
- * Classe responsable de la simulation des événements et du contrôle global.
- * Gère l'interface graphique, les données de simulation, et les événements planifiés.
+ * Classe faisant le lien entre l'interface graphique et une simulation.
+ * Chaque pas demandé par l'interface avance la simulation jusqu'à la prochaine date
+ * où des événements sont planifiés ; l'état de la simulation est porté par un {@link ContexteSimulation}.
  */
 public class Simulateur implements Simulable {
-    private static GUISimulator gui; // Interface graphique de la simulation
-    private static Long dateSimulation; // Date actuelle de la simulation
-    private static Map<Long, LinkedList<Evenement>> EVTS; // Structure de données pour gérer les événements par date
-    private static int tailleCase; // Taille d'une case sur la carte
-    private String filename; // Nom du fichier utilisé pour charger la simulation
-    private String attribution; // Type d'attribution utilisé par le chef pompier
-
-    /**
-     * Retourne la date actuelle de la simulation.
-     *
-     * @return La date actuelle sous forme de long.
-     */
-    public static long getDateSimulation() {
-        return dateSimulation;
-    }
+    private final Rendu rendu; // Rendu utilisé pour afficher la simulation
+    private final String filename; // Nom du fichier utilisé pour charger la simulation
+    private final String attribution; // Type d'attribution utilisé par le chef pompier
+    private Astar.Moteur moteur = Astar.MOTEUR_PAR_DEFAUT; // Moteur de recherche de chemin des robots
+    private ContexteSimulation contexte; // Simulation en cours
 
     /**
      * Méthode appelée pour avancer d'un pas de simulation.
-     * Exécute les événements planifiés pour la date actuelle et attribue les incendies
-     * selon la stratégie sélectionnée.
+     * Avance directement jusqu'à la prochaine date où des événements sont planifiés,
+     * exécute ces événements et attribue les incendies selon la stratégie sélectionnée.
      */
     @Override
     public void next() {
-        if (!simulationTerminee()) {
-            LinkedList<Evenement> events = EVTS.get(dateSimulation);
-            if (events == null) {
-                incrementeDate();
-            } else {
-                for (Evenement e : events) {
-                    e.execute();
-                }
-                EVTS.remove(dateSimulation);
-                if(this.attribution != null) {
-                    switch (this.attribution) {
-                        case "simple":
-                            ChefPompier.AttributionSimple(DonneesSimulation.getCarte());
-                            break;
-                        case "avancee":
-                            ChefPompier.AttributionAvancee(DonneesSimulation.getCarte());
-                            break;
-                        case "reflechie":
-                            ChefPompier.AttributionReflechie(DonneesSimulation.getCarte());
-                            break;
-                        default:
-                            System.out.println("Veuillez entrer l'une des trois attributions possibles : simple, avancee ou reflechie");
-                            break;
-                    }
-                }
-                incrementeDate();
-            }
-        }
-
-        if (DonneesSimulation.getListeIncendies().isEmpty()) {
-            String imagePath = "Images/Gagne.png";
-            gui.reset();
-            gui.addGraphicalElement(new ImageElement(0, 0, imagePath, 800, 800, null));
+        this.contexte.next();
+        if (this.contexte.getDonnees().getListeIncendies().isEmpty()) {
+            this.rendu.dessineVictoire();
         }
     }
 
@@ -86,7 +45,7 @@ public class Simulateur implements Simulable {
     }
 
     /**
-     * Constructeur du simulateur.
+     * Constructeur du simulateur avec interface graphique.
      * Initialise la simulation à partir d'un fichier, configure l'interface graphique,
      * et dessine la carte.
      *
@@ -95,14 +54,26 @@ public class Simulateur implements Simulable {
      * @param attrib   Type d'attribution choisi pour le chef pompier.
      */
     public Simulateur(GUISimulator gui, String file, String attrib) {
-        Simulateur.gui = gui;
+        this(new RenduGUI(gui), file, attrib);
+        gui.setSimulable(this);
+    }
+
+    /**
+     * Constructeur du simulateur avec un rendu quelconque, par exemple un rendu vide
+     * pour une exécution sans affichage.
+     * Initialise la simulation à partir d'un fichier et dessine la carte.
+     *
+     * @param rendu    Rendu utilisé pour la simulation.
+     * @param file     Nom du fichier de simulation.
+     * @param attrib   Type d'attribution choisi pour le chef pompier.
+     */
+    public Simulateur(Rendu rendu, String file, String attrib) {
+        this.rendu = rendu;
         this.filename = file;
         this.attribution = attrib;
-        dateSimulation = 0L;
-        gui.setSimulable(this);
         try {
-            DonneesSimulation data = creeDonnees(this.filename);
-            draw(data);
+            this.contexte = ContexteSimulation.charge(this.filename, this.rendu, this.attribution);
+            this.contexte.dessine();
         } catch (FileNotFoundException | DataFormatException e) {
             throw new RuntimeException(e);
         }
@@ -121,74 +92,46 @@ public class Simulateur implements Simulable {
     }
 
     /**
-     * Réinitialise la simulation à son état initial.
+     * Retourne la simulation en cours.
+     *
+     * @return Le contexte de la simulation en cours.
      */
-    @Override
-    public void restart() {
-        try {
-            dateSimulation = 0L;
-            EVTS = null;
-            DonneesSimulation.setListeEau(null);
-            DonneesSimulation.setListeIncendies(null);
-            DonneesSimulation.setListeRobots(null);
-            DonneesSimulation data = creeDonnees(this.filename);
-            draw(data);
-            switch (this.attribution) {
-                case "simple":
-                    ChefPompier.AttributionSimple(DonneesSimulation.getCarte());
-                    break;
-                case "avancee":
-                    ChefPompier.AttributionAvancee(DonneesSimulation.getCarte());
-                    break;
-                case "reflechie":
-                    ChefPompier.AttributionReflechie(DonneesSimulation.getCarte());
-                    break;
-                default:
-                    break;
-            }
-        } catch (FileNotFoundException | DataFormatException e) {
-            throw new RuntimeException(e);
-        }
+    public ContexteSimulation getContexte() {
+        return this.contexte;
     }
 
     /**
-     * Dessine les éléments de la carte et les données associées sur l'interface graphique.
+     * Définit le moteur de recherche de chemin de la simulation en cours et des suivantes.
      *
-     * @param data Les données de simulation à dessiner.
+     * @param moteur Le moteur à utiliser.
      */
-    public void draw(DonneesSimulation data) {
-        gui.reset();
-        drawCarte(data);
+    public void setMoteur(Astar.Moteur moteur) {
+        this.moteur = moteur;
+        this.contexte.setMoteur(moteur);
     }
 
     /**
-     * Ajoute un événement à la liste des événements planifiés.
-     *
-     * @param evenement L'événement à ajouter.
+     * Réinitialise la simulation à son état initial.
      */
-    public static void ajouteEvenement(Evenement evenement) {
-        long date = evenement.getDate();
-        LinkedList<Evenement> events;
-        if (EVTS == null) {
-            EVTS = new HashMap<>();
-            events = new LinkedList<>();
-            events.add(evenement);
-            EVTS.put(date, events);
-        } else if (!EVTS.containsKey(date)) {
-            events = new LinkedList<>();
-            events.add(evenement);
-            EVTS.put(date, events);
-        } else {
-            events = EVTS.get(date);
-            events.add(evenement);
+    @Override
+    public void restart() {
+        try {
+            this.contexte = ContexteSimulation.charge(this.filename, this.rendu, this.attribution);
+            this.contexte.setMoteur(this.moteur);
+            this.contexte.dessine();
+            if (this.attribution != null) {
+                attribue();
+            }
+        } catch (FileNotFoundException | DataFormatException e) {
+            throw new RuntimeException(e);
         }
     }
 
     /**
-     * Incrémente la date actuelle de la simulation.
+     * Attribue les incendies aux robots selon la stratégie choisie pour le chef pompier.
      */
-    public void incrementeDate() {
-        dateSimulation++;
+    public void attribue() {
+        this.contexte.attribue();
     }
 
     /**
@@ -197,33 +140,6 @@ public class Simulateur implements Simulable {
      * @return true si la simulation est terminée, false sinon.
      */
     public boolean simulationTerminee() {
-        return EVTS == null || EVTS.isEmpty();
-    }
-
-    /**
-     * Définit la taille des cases sur la carte.
-     *
-     * @param taille La taille des cases.
-     */
-    public static void setTailleCase(int taille) {
-        tailleCase = taille;
-    }
-
-    /**
-     * Retourne la taille des cases sur la carte.
-     *
-     * @return La taille des cases.
-     */
-    public static int getTailleCase() {
-        return tailleCase;
-    }
-
-    /**
-     * Retourne l'interface graphique utilisée par la simulation.
-     *
-     * @return L'instance de GUISimulator.
-     */
-    public static GUISimulator getGui() {
-        return gui;
+        return this.contexte.simulationTerminee();
     }
 }
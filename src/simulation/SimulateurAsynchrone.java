@@ -0,0 +1,207 @@
+package simulation;
+
+import affichage.Instantane;
+import affichage.RenduGUI;
+import affichage.RenduVide;
+import gui.GUISimulator;
+import gui.Simulable;
+
+import javax.swing.Timer;
+import java.awt.Color;
+import java.io.FileNotFoundException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.DataFormatException;
+
+/**
+ * Simulation affichée dont le déroulement est découplé de l'affichage.
+ * La simulation s'exécute sur son propre fil, aussi vite que possible (ou à une cadence limitée),
+ * sans rien dessiner : elle dépose régulièrement un {@link Instantane} dans un emplacement unique,
+ * où chaque nouvel instantané remplace le précédent s'il n'a pas encore été affiché.
+ * L'interface graphique reprend le dernier instantané à fréquence fixe et ne redessine que les
+ * tuiles qui ont changé. Une simulation volumineuse n'est donc plus ralentie par l'affichage,
+ * et l'affichage ne prend jamais de retard sur la simulation.
+ * Utilisation : java simulation.SimulateurAsynchrone fichier.map attribution [imagesParSeconde [datesParSeconde]]
+ */
+public class SimulateurAsynchrone implements Simulable {
+
+    /**
+     * Fréquence d'affichage par défaut, en images par seconde.
+     */
+    public static final int IMAGES_PAR_SECONDE = 30;
+
+    private final RenduGUI rendu; // Rendu de la fenêtre
+    private final String filename; // Nom du fichier utilisé pour charger la simulation
+    private final String attribution; // Type d'attribution utilisé par le chef pompier
+    private final long periodeNanos; // Intervalle entre deux instantanés, en nanosecondes
+    private final double datesParSeconde; // Cadence maximale de la simulation, 0 pour aucune limite
+    private final Timer minuterie; // Minuterie d'affichage, sur le fil de l'interface graphique
+
+    /**
+     * Dernier instantané produit et pas encore affiché.
+     */
+    private final AtomicReference<Instantane> dernier = new AtomicReference<>();
+
+    private Thread fil; // Fil de la simulation en cours
+    private volatile boolean arret; // Demande d'arrêt du fil de la simulation
+
+    /**
+     * Constructeur du simulateur asynchrone. La simulation démarre immédiatement.
+     *
+     * @param gui              Interface graphique utilisée pour l'affichage.
+     * @param file             Nom du fichier de simulation.
+     * @param attrib           Type d'attribution choisi pour le chef pompier.
+     * @param imagesParSeconde Fréquence d'affichage.
+     * @param datesParSeconde  Nombre maximal d'unités de temps simulées par seconde réelle, 0 pour aucune limite.
+     */
+    public SimulateurAsynchrone(GUISimulator gui, String file, String attrib, int imagesParSeconde, double datesParSeconde) {
+        if (imagesParSeconde <= 0 || datesParSeconde < 0) {
+            throw new IllegalArgumentException("La fréquence d'affichage doit être positive et la cadence positive ou nulle.");
+        }
+        this.rendu = new RenduGUI(gui);
+        this.filename = file;
+        this.attribution = attrib;
+        this.periodeNanos = 1_000_000_000L / imagesParSeconde;
+        this.datesParSeconde = datesParSeconde;
+        this.minuterie = new Timer(Math.max(1, 1000 / imagesParSeconde), e -> afficheDernier());
+        gui.setSimulable(this);
+        demarre();
+    }
+
+    /**
+     * Méthode appelée par l'interface graphique : la simulation avançant seule,
+     * elle affiche simplement le dernier instantané disponible.
+     */
+    @Override
+    public void next() {
+        afficheDernier();
+    }
+
+    /**
+     * Arrête la simulation en cours et la relance depuis son état initial.
+     */
+    @Override
+    public void restart() {
+        arrete();
+        demarre();
+    }
+
+    /**
+     * Arrête le fil de la simulation et la minuterie d'affichage.
+     */
+    public void arrete() {
+        this.minuterie.stop();
+        this.arret = true;
+        if (this.fil != null) {
+            try {
+                this.fil.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            this.fil = null;
+        }
+        this.dernier.set(null);
+    }
+
+    /**
+     * Charge la simulation, dessine son état initial et lance son fil.
+     * La simulation s'exécute avec un rendu vide aux dimensions de la fenêtre,
+     * pour conserver la même taille de cases et donc les mêmes temps de déplacement.
+     */
+    private void demarre() {
+        ContexteSimulation contexte;
+        try {
+            contexte = ContexteSimulation.charge(this.filename,
+                    new RenduVide(this.rendu.getLargeur(), this.rendu.getHauteur()), this.attribution);
+        } catch (FileNotFoundException | DataFormatException e) {
+            throw new RuntimeException(e);
+        }
+        this.rendu.efface(contexte.getTailleCase());
+        this.rendu.dessineCarte(contexte.getCarte());
+        this.rendu.affiche(contexte.capture());
+        this.arret = false;
+        this.fil = new Thread(() -> deroule(contexte), "simulation");
+        this.fil.setDaemon(true);
+        this.fil.start();
+        this.minuterie.start();
+    }
+
+    /**
+     * Boucle du fil de la simulation : exécute les dates successives et publie un instantané
+     * au plus une fois par période d'affichage, puis un dernier à la fin.
+     */
+    private void deroule(ContexteSimulation contexte) {
+        if (this.attribution != null) {
+            contexte.attribue();
+        }
+        long debut = System.nanoTime();
+        long prochainePublication = debut;
+        while (!this.arret && !contexte.simulationTerminee()) {
+            contexte.next();
+            if (this.datesParSeconde > 0) {
+                attendDate(debut, contexte.getDateSimulation());
+            }
+            long maintenant = System.nanoTime();
+            if (maintenant - prochainePublication >= 0) {
+                this.dernier.set(contexte.capture());
+                prochainePublication = maintenant + this.periodeNanos;
+            }
+        }
+        if (!this.arret) {
+            this.dernier.set(contexte.capture());
+        }
+    }
+
+    /**
+     * Attend que le temps réel écoulé corresponde à une date de simulation, selon la cadence demandée.
+     */
+    private void attendDate(long debut, long date) {
+        long echeance = debut + (long) (date / this.datesParSeconde * 1e9);
+        long attente = echeance - System.nanoTime();
+        while (attente > 0 && !this.arret) {
+            try {
+                Thread.sleep(Math.min(attente / 1_000_000 + 1, 100));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            attente = echeance - System.nanoTime();
+        }
+    }
+
+    /**
+     * Affiche le dernier instantané publié, s'il y en a un, puis l'écran de fin
+     * lorsque tous les incendies sont éteints.
+     */
+    private void afficheDernier() {
+        Instantane instantane = this.dernier.getAndSet(null);
+        if (instantane == null) {
+            return;
+        }
+        if (instantane.getNbIncendies() == 0) {
+            this.minuterie.stop();
+            this.rendu.dessineVictoire();
+            return;
+        }
+        this.rendu.affiche(instantane);
+        if (instantane.estTermine()) {
+            this.minuterie.stop();
+        }
+    }
+
+    /**
+     * Point d'entrée de la simulation asynchrone.
+     *
+     * @param args Le fichier de la carte, l'attribution du chef pompier et, éventuellement,
+     *             la fréquence d'affichage puis la cadence maximale de la simulation.
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.out.println("Syntaxe: java simulation.SimulateurAsynchrone <fichier.map> <simple|avancee|reflechie|optimale> [imagesParSeconde [datesParSeconde]]");
+            return;
+        }
+        int imagesParSeconde = args.length > 2 ? Integer.parseInt(args[2]) : IMAGES_PAR_SECONDE;
+        double datesParSeconde = args.length > 3 ? Double.parseDouble(args[3]) : 0;
+        new SimulateurAsynchrone(new GUISimulator(SimulateurBatch.TAILLE_FENETRE, SimulateurBatch.TAILLE_FENETRE, Color.BLACK),
+                args[0], args[1], imagesParSeconde, datesParSeconde);
+    }
+}
@@ -0,0 +1,92 @@
+package simulation;
+
+import A_etoile.Astar;
+import affichage.RenduVide;
+
+import java.io.FileNotFoundException;
+import java.util.zip.DataFormatException;
+
+/**
+ * Exécution d'une simulation sans interface graphique.
+ * La simulation est déroulée jusqu'à épuisement des événements, aussi vite que possible,
+ * puis la date finale, le nombre d'événements exécutés, les statistiques du cache de chemins
+ * et le temps réel écoulé sont affichés.
+ * Utilisation : java simulation.SimulateurBatch fichier.map attribution [dateMax [moteur]]
+ */
+public class SimulateurBatch {
+
+    /**
+     * Largeur et hauteur simulées de la fenêtre, identiques à celles des tests graphiques
+     * afin que la taille des cases, et donc les temps de déplacement, soient les mêmes.
+     */
+    public static final int TAILLE_FENETRE = 800;
+
+    /**
+     * Exécute une simulation sans affichage jusqu'à son terme.
+     * Chaque appel travaille sur son propre contexte, plusieurs appels peuvent donc
+     * s'exécuter en parallèle.
+     *
+     * @param fichier     Le fichier de la carte.
+     * @param attribution Le type d'attribution du chef pompier.
+     * @param dateMax     La date au-delà de laquelle la simulation est interrompue.
+     * @return Le résultat de la simulation.
+     * @throws DataFormatException En cas d'erreur de format dans le fichier.
+     * @throws FileNotFoundException Si le fichier n'est pas trouvé.
+     */
+    public static ResultatSimulation execute(String fichier, String attribution, long dateMax)
+            throws DataFormatException, FileNotFoundException {
+        return execute(fichier, attribution, Astar.MOTEUR_PAR_DEFAUT, dateMax);
+    }
+
+    /**
+     * Exécute une simulation sans affichage jusqu'à son terme, avec un moteur de recherche de chemin donné.
+     *
+     * @param fichier     Le fichier de la carte.
+     * @param attribution Le type d'attribution du chef pompier.
+     * @param moteur      Le moteur de recherche de chemin des robots.
+     * @param dateMax     La date au-delà de laquelle la simulation est interrompue.
+     * @return Le résultat de la simulation.
+     * @throws DataFormatException En cas d'erreur de format dans le fichier.
+     * @throws FileNotFoundException Si le fichier n'est pas trouvé.
+     */
+    public static ResultatSimulation execute(String fichier, String attribution, Astar.Moteur moteur, long dateMax)
+            throws DataFormatException, FileNotFoundException {
+        long debut = System.nanoTime();
+        ContexteSimulation contexte = ContexteSimulation.charge(fichier,
+                new RenduVide(TAILLE_FENETRE, TAILLE_FENETRE), attribution);
+        contexte.setMoteur(moteur);
+        contexte.attribue();
+        contexte.executeJusquA(dateMax);
+        long duree = System.nanoTime() - debut;
+        return new ResultatSimulation(fichier, attribution, moteur, contexte.getDateSimulation(),
+                contexte.getNbEvenementsExecutes(), contexte.getDonnees().getListeIncendies().size(), duree,
+                contexte.getCacheChemins().getNbSucces(), contexte.getCacheChemins().getNbEchecs());
+    }
+
+    /**
+     * Point d'entrée de l'exécution sans affichage.
+     *
+     * @param args Le fichier de la carte, l'attribution du chef pompier et, éventuellement,
+     *             une date au-delà de laquelle la simulation est interrompue et le moteur de recherche.
+     * @throws DataFormatException En cas d'erreur de format dans le fichier.
+     * @throws FileNotFoundException Si le fichier n'est pas trouvé.
+     */
+    public static void main(String[] args) throws DataFormatException, FileNotFoundException {
+        if (args.length < 2) {
+            System.out.println("Syntaxe: java simulation.SimulateurBatch <fichier.map> <simple|avancee|reflechie|optimale> [dateMax [moteur]]");
+            return;
+        }
+        long dateMax = args.length > 2 ? Long.parseLong(args[2]) : Long.MAX_VALUE;
+        Astar.Moteur moteur = args.length > 3 ? Astar.Moteur.valueOf(args[3].toUpperCase()) : Astar.MOTEUR_PAR_DEFAUT;
+        ResultatSimulation resultat = execute(args[0], args[1], moteur, dateMax);
+
+        System.out.println("Carte                : " + resultat.getFichier());
+        System.out.println("Attribution          : " + resultat.getAttribution() + " (moteur " + resultat.getMoteur() + ")");
+        System.out.println("Cache de chemins     : " + resultat.getSuccesCache() + " succès, "
+                + resultat.getEchecsCache() + " échecs");
+        System.out.println("Date finale          : " + resultat.getDateFinale());
+        System.out.println("Événements exécutés  : " + resultat.getNbEvenements());
+        System.out.println("Incendies restants   : " + resultat.getIncendiesRestants());
+        System.out.printf("Temps réel écoulé    : %.3f ms%n", resultat.getDureeNanos() / 1e6);
+    }
+}
@@ -0,0 +1,114 @@
+package simulation;
+
+import affichage.ExportateurImages;
+import affichage.RenduVide;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+
+/**
+ * Exécution d'une simulation sans interface graphique, qui enregistre son déroulement sous forme
+ * d'une suite d'images PNG nommées d'après leur date de simulation, pour la revoir après coup
+ * (par exemple en vidéo).
+ * Une image est produite à chaque fois que la date de simulation franchit un multiple de N, plus l'état
+ * initial et l'état final : le pas entre deux images est le même en temps simulé, quelle que soit la
+ * répartition des événements.
+ * Utilisation : java simulation.SimulateurExport fichier.map attribution repertoire [periode [budget [fils [tailleCase]]]]
+ */
+public class SimulateurExport {
+
+    /**
+     * Temps simulé entre deux images, par défaut.
+     */
+    public static final int PERIODE = 10;
+
+    /**
+     * Part maximale du temps de simulation consacrée à l'export, par défaut.
+     */
+    public static final double BUDGET = 0.25;
+
+    /**
+     * Nombre d'images en attente d'encodage par fil d'encodage.
+     */
+    private static final int IMAGES_PAR_FIL = 4;
+
+    /**
+     * Exécute une simulation jusqu'à son terme en exportant une image toutes les {@code periode} unités de temps simulé.
+     *
+     * @param fichier     Le fichier de la carte.
+     * @param attribution Le type d'attribution du chef pompier.
+     * @param repertoire  Le répertoire des images.
+     * @param periode     Le temps simulé entre deux images.
+     * @param budget      La part maximale du temps de simulation consacrée à l'export.
+     * @param nbFils      Le nombre de fils d'encodage.
+     * @param tailleCase  La taille d'une case dans les images, en pixels, ou 0 pour celle de la fenêtre graphique.
+     * @return L'exportateur, fermé, dont on peut consulter les statistiques.
+     * @throws DataFormatException En cas d'erreur de format dans le fichier.
+     * @throws IOException         Si le fichier est introuvable ou si les images ne peuvent pas être écrites.
+     */
+    public static ExportateurImages execute(String fichier, String attribution, File repertoire, int periode,
+                                            double budget, int nbFils, int tailleCase)
+            throws DataFormatException, IOException {
+        if (periode <= 0) {
+            throw new IllegalArgumentException("La période doit être positive.");
+        }
+        ContexteSimulation contexte = ContexteSimulation.charge(fichier,
+                new RenduVide(SimulateurBatch.TAILLE_FENETRE, SimulateurBatch.TAILLE_FENETRE), attribution);
+        int taille = tailleCase > 0 ? tailleCase : Math.max(1, contexte.getTailleCase());
+        ExportateurImages exportateur = new ExportateurImages(repertoire, contexte.getCarte(), taille,
+                nbFils, IMAGES_PAR_FIL * nbFils, budget);
+        try {
+            exportateur.exporteToujours(contexte.capture());
+            contexte.attribue();
+            long prochaine = periode; // Prochain multiple de la période à franchir
+            while (!contexte.simulationTerminee()) {
+                contexte.next();
+                long date = contexte.getDateSimulation();
+                if (date >= prochaine) {
+                    if (!contexte.simulationTerminee()) {
+                        exportateur.exporte(contexte::capture);
+                    }
+                    // Plusieurs multiples peuvent être franchis d'un coup : une seule image les représente.
+                    prochaine = (date / periode + 1) * periode;
+                }
+            }
+            exportateur.exporteToujours(contexte.capture());
+        } finally {
+            exportateur.close();
+        }
+        return exportateur;
+    }
+
+    /**
+     * Point d'entrée de l'export.
+     *
+     * @param args Le fichier de la carte, l'attribution du chef pompier, le répertoire des images et,
+     *             éventuellement, la période, le budget, le nombre de fils d'encodage et la taille des cases.
+     * @throws DataFormatException En cas d'erreur de format dans le fichier.
+     * @throws IOException         Si le fichier est introuvable ou si les images ne peuvent pas être écrites.
+     */
+    public static void main(String[] args) throws DataFormatException, IOException {
+        if (args.length < 3) {
+            System.out.println("Syntaxe: java simulation.SimulateurExport <fichier.map> <simple|avancee|reflechie|optimale> "
+                    + "<repertoire> [periode [budget [fils [tailleCase]]]]");
+            return;
+        }
+        int periode = args.length > 3 ? Integer.parseInt(args[3]) : PERIODE;
+        double budget = args.length > 4 ? Double.parseDouble(args[4]) : BUDGET;
+        int nbFils = args.length > 5 && Integer.parseInt(args[5]) > 0
+                ? Integer.parseInt(args[5]) : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        int tailleCase = args.length > 6 ? Integer.parseInt(args[6]) : 0;
+
+        long debut = System.nanoTime();
+        ExportateurImages exportateur = execute(args[0], args[1], new File(args[2]), periode, budget, nbFils, tailleCase);
+        long duree = System.nanoTime() - debut;
+
+        System.out.println("Carte                : " + args[0]);
+        System.out.println("Images écrites       : " + exportateur.getNbImages() + " dans " + args[2]);
+        System.out.println("Images abandonnées   : " + exportateur.getNbAbandonnees());
+        System.out.printf("Temps d'export       : %.3f ms (dont %.3f ms d'encodage)%n",
+                exportateur.getTempsExport() / 1e6, exportateur.getTempsEncodage() / 1e6);
+        System.out.printf("Temps réel écoulé    : %.3f ms%n", duree / 1e6);
+    }
+}
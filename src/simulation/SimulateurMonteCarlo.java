@@ -0,0 +1,256 @@
+package simulation;
+
+import affichage.RenduVide;
+import evenements.PropagationIncendie;
+import objets.Robot;
+
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.DataFormatException;
+
+/**
+ * Exécution de Monte Carlo d'un scénario avec propagation aléatoire des incendies.
+ * Le scénario est rejoué un nombre donné de fois sur un pool fork-join ; chaque réplication
+ * possède son propre contexte et son propre générateur {@link SplittableRandom}, obtenu en
+ * divisant un générateur maître initialisé avec la graine donnée. Les résultats ne dépendent
+ * donc ni du nombre de threads ni de l'ordre d'exécution des réplications.
+ * La date d'extinction, le nombre de cases brûlées et le taux d'occupation des robots
+ * sont ensuite résumés par leurs centiles.
+ * Utilisation : java simulation.SimulateurMonteCarlo fichier.map attribution nbReplications graine
+ * [nbThreads [dateMax [periode [probabilite]]]]
+ */
+public class SimulateurMonteCarlo {
+
+    /**
+     * Date par défaut au-delà de laquelle une réplication est interrompue.
+     */
+    public static final long DATE_MAX_DEFAUT = 1_000_000L;
+
+    /**
+     * Centiles affichés pour chaque mesure.
+     */
+    private static final double[] CENTILES = {5, 25, 50, 75, 95};
+
+    /**
+     * Résultat d'une réplication.
+     */
+    public static class Replication {
+        private final long dateExtinction; // Date d'extinction du dernier incendie, -1 si la réplication a été interrompue
+        private final long dateFinale; // Date de la simulation à la fin de la réplication
+        private final int nbCasesBrulees; // Nombre de cases ayant brûlé
+        private final double tauxOccupation; // Part du temps pendant laquelle les robots ont été occupés, jusqu'à la date finale
+
+        /**
+         * Constructeur du résultat d'une réplication.
+         *
+         * @param dateExtinction La date d'extinction du dernier incendie, -1 s'il en reste.
+         * @param dateFinale     La date de la simulation à la fin de la réplication.
+         * @param nbCasesBrulees Le nombre de cases ayant brûlé.
+         * @param tauxOccupation La part du temps pendant laquelle les robots ont été occupés.
+         */
+        public Replication(long dateExtinction, long dateFinale, int nbCasesBrulees, double tauxOccupation) {
+            this.dateExtinction = dateExtinction;
+            this.dateFinale = dateFinale;
+            this.nbCasesBrulees = nbCasesBrulees;
+            this.tauxOccupation = tauxOccupation;
+        }
+
+        public long getDateExtinction() {
+            return this.dateExtinction;
+        }
+
+        public long getDateFinale() {
+            return this.dateFinale;
+        }
+
+        public int getNbCasesBrulees() {
+            return this.nbCasesBrulees;
+        }
+
+        public double getTauxOccupation() {
+            return this.tauxOccupation;
+        }
+
+        /**
+         * Indique si tous les incendies ont été éteints avant l'interruption de la réplication.
+         *
+         * @return true si tous les incendies ont été éteints.
+         */
+        public boolean estEteinte() {
+            return this.dateExtinction >= 0;
+        }
+    }
+
+    /**
+     * Exécute une réplication du scénario.
+     *
+     * @param fichier     Le fichier de la carte.
+     * @param attribution Le type d'attribution du chef pompier.
+     * @param aleatoire   Le générateur propre à cette réplication.
+     * @param dateMax     La date au-delà de laquelle la réplication est interrompue.
+     * @param periode     La durée entre deux tentatives de propagation.
+     * @param probabilite La probabilité qu'un incendie se propage à chaque tentative.
+     * @return Le résultat de la réplication.
+     * @throws DataFormatException En cas d'erreur de format dans le fichier.
+     * @throws FileNotFoundException Si le fichier n'est pas trouvé.
+     */
+    public static Replication executeReplication(String fichier, String attribution, SplittableRandom aleatoire,
+                                                 long dateMax, long periode, double probabilite)
+            throws DataFormatException, FileNotFoundException {
+        ContexteSimulation contexte = ContexteSimulation.charge(fichier,
+                new RenduVide(SimulateurBatch.TAILLE_FENETRE, SimulateurBatch.TAILLE_FENETRE), attribution);
+        contexte.activePropagation(aleatoire, periode, probabilite);
+        contexte.attribue();
+        contexte.executeJusquA(dateMax);
+
+        // L'occupation est mesurée jusqu'au dernier événement, retours au point d'eau compris.
+        long dateFin = contexte.getDateSimulation();
+        List<Robot> robots = contexte.getDonnees().getListeRobots();
+        double tauxOccupation = 0;
+        if (dateFin > 0 && !robots.isEmpty()) {
+            long tempsOccupe = 0;
+            for (Robot robot : robots) {
+                tempsOccupe += robot.getTempsOccupe(dateFin);
+            }
+            tauxOccupation = (double) tempsOccupe / ((double) dateFin * robots.size());
+        }
+        return new Replication(contexte.getDateExtinction(), contexte.getDateSimulation(),
+                contexte.getNbCasesBrulees(), tauxOccupation);
+    }
+
+    /**
+     * Exécute plusieurs réplications d'un scénario sur un pool fork-join.
+     *
+     * @param fichier        Le fichier de la carte.
+     * @param attribution    Le type d'attribution du chef pompier.
+     * @param nbReplications Le nombre de réplications.
+     * @param graine         La graine du générateur maître.
+     * @param nbThreads      Le nombre de threads du pool.
+     * @param dateMax        La date au-delà de laquelle une réplication est interrompue.
+     * @param periode        La durée entre deux tentatives de propagation.
+     * @param probabilite    La probabilité qu'un incendie se propage à chaque tentative.
+     * @return Les résultats, dans l'ordre des réplications.
+     * @throws InterruptedException Si le thread appelant est interrompu pendant l'attente.
+     * @throws ExecutionException   Si une réplication lève une exception.
+     */
+    public static List<Replication> execute(String fichier, String attribution, int nbReplications, long graine,
+                                            int nbThreads, long dateMax, long periode, double probabilite)
+            throws InterruptedException, ExecutionException {
+        // Les générateurs sont divisés dans l'ordre des réplications, avant toute exécution.
+        SplittableRandom maitre = new SplittableRandom(graine);
+        List<Callable<Replication>> taches = new ArrayList<>();
+        for (int i = 0; i < nbReplications; i++) {
+            SplittableRandom aleatoire = maitre.split();
+            taches.add(() -> executeReplication(fichier, attribution, aleatoire, dateMax, periode, probabilite));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(nbThreads);
+        try {
+            List<Replication> replications = new ArrayList<>();
+            for (Future<Replication> futur : pool.invokeAll(taches)) {
+                replications.add(futur.get());
+            }
+            return replications;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Calcule un centile d'un tableau trié, par la méthode du rang le plus proche.
+     *
+     * @param valeursTriees Les valeurs, triées par ordre croissant.
+     * @param centile       Le centile recherché, entre 0 et 100.
+     * @return La valeur du centile.
+     */
+    public static double centile(double[] valeursTriees, double centile) {
+        int rang = (int) Math.ceil(centile / 100 * valeursTriees.length);
+        return valeursTriees[Math.max(0, Math.min(valeursTriees.length - 1, rang - 1))];
+    }
+
+    /**
+     * Affiche la moyenne et les centiles d'une mesure.
+     *
+     * @param nom     Le nom de la mesure.
+     * @param valeurs Les valeurs de la mesure pour chaque réplication.
+     * @param format  Le format d'affichage d'une valeur.
+     */
+    private static void afficheDistribution(String nom, double[] valeurs, String format) {
+        double[] triees = valeurs.clone();
+        Arrays.sort(triees);
+        double somme = 0;
+        for (double valeur : triees) {
+            somme += valeur;
+        }
+        StringBuilder ligne = new StringBuilder(String.format("%-22s: moyenne = " + format, nom, somme / triees.length));
+        for (double c : CENTILES) {
+            ligne.append(String.format(", P%.0f = " + format, c, centile(triees, c)));
+        }
+        System.out.println(ligne);
+    }
+
+    /**
+     * Point d'entrée de l'exécution de Monte Carlo.
+     *
+     * @param args Le fichier de la carte, l'attribution du chef pompier, le nombre de réplications,
+     *             la graine puis, éventuellement, le nombre de threads (0 pour un thread par cœur),
+     *             la date d'interruption, la période et la probabilité de propagation.
+     * @throws InterruptedException Si l'exécution est interrompue.
+     * @throws ExecutionException   Si une réplication lève une exception.
+     */
+    public static void main(String[] args) throws InterruptedException, ExecutionException {
+        if (args.length < 4) {
+            System.out.println("Syntaxe: java simulation.SimulateurMonteCarlo <fichier.map> <simple|avancee|reflechie|optimale> "
+                    + "<nbReplications> <graine> [nbThreads [dateMax [periode [probabilite]]]]");
+            return;
+        }
+        String fichier = args[0];
+        String attribution = args[1];
+        int nbReplications = Integer.parseInt(args[2]);
+        long graine = Long.parseLong(args[3]);
+        int nbThreads = args.length > 4 ? Integer.parseInt(args[4]) : 0;
+        if (nbThreads <= 0) {
+            nbThreads = Runtime.getRuntime().availableProcessors();
+        }
+        long dateMax = args.length > 5 ? Long.parseLong(args[5]) : DATE_MAX_DEFAUT;
+        long periode = args.length > 6 ? Long.parseLong(args[6]) : PropagationIncendie.PERIODE_DEFAUT;
+        double probabilite = args.length > 7 ? Double.parseDouble(args[7]) : PropagationIncendie.PROBABILITE_DEFAUT;
+
+        long debut = System.nanoTime();
+        List<Replication> replications = execute(fichier, attribution, nbReplications, graine, nbThreads,
+                dateMax, periode, probabilite);
+        long duree = System.nanoTime() - debut;
+
+        // Une réplication interrompue compte pour sa date finale : ses centiles sont des bornes inférieures.
+        double[] datesExtinction = new double[replications.size()];
+        double[] casesBrulees = new double[replications.size()];
+        double[] tauxOccupation = new double[replications.size()];
+        int nbInterrompues = 0;
+        for (int i = 0; i < replications.size(); i++) {
+            Replication replication = replications.get(i);
+            if (!replication.estEteinte()) {
+                nbInterrompues++;
+            }
+            datesExtinction[i] = replication.estEteinte() ? replication.getDateExtinction() : replication.getDateFinale();
+            casesBrulees[i] = replication.getNbCasesBrulees();
+            tauxOccupation[i] = 100 * replication.getTauxOccupation();
+        }
+
+        System.out.println("Carte                 : " + fichier);
+        System.out.println("Attribution           : " + attribution);
+        System.out.printf("Réplications          : %d (graine %d, %d threads, %.3f ms)%n",
+                nbReplications, graine, nbThreads, duree / 1e6);
+        System.out.printf("Propagation           : période %d, probabilité %s%n", periode, probabilite);
+        System.out.println("Non éteintes          : " + nbInterrompues + " (interrompues à la date " + dateMax + ")");
+        afficheDistribution("Date d'extinction", datesExtinction, "%.0f");
+        afficheDistribution("Cases brûlées", casesBrulees, "%.0f");
+        afficheDistribution("Occupation robots (%)", tauxOccupation, "%.1f");
+    }
+}
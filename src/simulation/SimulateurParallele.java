@@ -0,0 +1,82 @@
+package simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Exécution de plusieurs simulations indépendantes en parallèle, sans affichage.
+ * Chaque simulation possède son propre {@link ContexteSimulation} et s'exécute dans
+ * un thread d'un pool de taille fixe.
+ * Utilisation : java simulation.SimulateurParallele attribution nbThreads fichier1.map [fichier2.map ...]
+ * Un même fichier peut être répété pour lancer plusieurs simulations identiques.
+ */
+public class SimulateurParallele {
+
+    /**
+     * Exécute une liste de simulations sur un pool de threads.
+     *
+     * @param fichiers    Les fichiers des cartes à simuler, une simulation par fichier.
+     * @param attribution Le type d'attribution du chef pompier.
+     * @param nbThreads   Le nombre de threads du pool.
+     * @return Les résultats, dans l'ordre des fichiers.
+     * @throws InterruptedException Si le thread appelant est interrompu pendant l'attente.
+     * @throws ExecutionException   Si une simulation lève une exception.
+     */
+    public static List<ResultatSimulation> execute(List<String> fichiers, String attribution, int nbThreads)
+            throws InterruptedException, ExecutionException {
+        ExecutorService pool = Executors.newFixedThreadPool(nbThreads);
+        try {
+            List<Future<ResultatSimulation>> futurs = new ArrayList<>();
+            for (String fichier : fichiers) {
+                futurs.add(pool.submit(() -> SimulateurBatch.execute(fichier, attribution, Long.MAX_VALUE)));
+            }
+            List<ResultatSimulation> resultats = new ArrayList<>();
+            for (Future<ResultatSimulation> futur : futurs) {
+                resultats.add(futur.get());
+            }
+            return resultats;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Point d'entrée de l'exécution parallèle.
+     *
+     * @param args L'attribution du chef pompier, le nombre de threads (0 pour un thread par cœur)
+     *             puis les fichiers des cartes.
+     * @throws InterruptedException Si l'exécution est interrompue.
+     * @throws ExecutionException   Si une simulation lève une exception.
+     */
+    public static void main(String[] args) throws InterruptedException, ExecutionException {
+        if (args.length < 3) {
+            System.out.println("Syntaxe: java simulation.SimulateurParallele <simple|avancee|reflechie|optimale> <nbThreads> <fichier.map>...");
+            return;
+        }
+        String attribution = args[0];
+        int nbThreads = Integer.parseInt(args[1]);
+        if (nbThreads <= 0) {
+            nbThreads = Runtime.getRuntime().availableProcessors();
+        }
+        List<String> fichiers = new ArrayList<>();
+        for (int i = 2; i < args.length; i++) {
+            fichiers.add(args[i]);
+        }
+
+        long debut = System.nanoTime();
+        List<ResultatSimulation> resultats = execute(fichiers, attribution, nbThreads);
+        long duree = System.nanoTime() - debut;
+
+        long sommeDurees = 0;
+        for (ResultatSimulation resultat : resultats) {
+            System.out.println(resultat);
+            sommeDurees += resultat.getDureeNanos();
+        }
+        System.out.printf("%d simulations sur %d threads : %.3f ms (%.3f ms en séquentiel cumulé)%n",
+                resultats.size(), nbThreads, duree / 1e6, sommeDurees / 1e6);
+    }
+}
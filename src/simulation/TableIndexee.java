@@ -0,0 +1,229 @@
+package simulation;
+
+import java.util.Arrays;
+
+/**
+ * Table associant des valeurs à des entiers positifs (indices de cases), par adressage ouvert
+ * avec sondage linéaire. La recherche, l'ajout et le retrait se font en temps constant en moyenne,
+ * sans objet intermédiaire par entrée ; la mémoire occupée est proportionnelle au nombre d'entrées
+ * et non à la taille de la carte.
+ *
+ * @param <V> Le type des valeurs.
+ */
+public class TableIndexee<V> {
+
+    /**
+     * Marque d'une alvéole vide (les clés sont positives).
+     */
+    private static final int VIDE = -1;
+
+    /**
+     * Capacité initiale, puissance de deux.
+     */
+    private static final int CAPACITE_INITIALE = 16;
+
+    /**
+     * Clés des alvéoles, VIDE pour une alvéole libre.
+     */
+    private int[] cles;
+
+    /**
+     * Valeurs des alvéoles.
+     */
+    private Object[] valeurs;
+
+    /**
+     * Nombre d'entrées.
+     */
+    private int taille;
+
+    /**
+     * Construit une table vide.
+     */
+    public TableIndexee() {
+        this.cles = new int[CAPACITE_INITIALE];
+        this.valeurs = new Object[CAPACITE_INITIALE];
+        Arrays.fill(this.cles, VIDE);
+    }
+
+    /**
+     * Retourne le nombre d'entrées.
+     *
+     * @return Le nombre d'entrées.
+     */
+    public int getTaille() {
+        return this.taille;
+    }
+
+    /**
+     * Indique si la table est vide.
+     *
+     * @return true si la table ne contient aucune entrée.
+     */
+    public boolean estVide() {
+        return this.taille == 0;
+    }
+
+    /**
+     * Retourne la valeur associée à une clé.
+     *
+     * @param cle La clé recherchée.
+     * @return La valeur associée, ou null si la clé est absente.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int cle) {
+        int masque = this.cles.length - 1;
+        for (int i = alveole(cle, masque); this.cles[i] != VIDE; i = (i + 1) & masque) {
+            if (this.cles[i] == cle) {
+                return (V) this.valeurs[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Indique si une clé est présente.
+     *
+     * @param cle La clé recherchée.
+     * @return true si une valeur est associée à la clé.
+     */
+    public boolean contient(int cle) {
+        return get(cle) != null;
+    }
+
+    /**
+     * Associe une valeur à une clé, en remplaçant la valeur précédente éventuelle.
+     *
+     * @param cle    La clé, positive ou nulle.
+     * @param valeur La valeur, non nulle.
+     * @return La valeur précédemment associée à la clé, ou null.
+     */
+    @SuppressWarnings("unchecked")
+    public V ajoute(int cle, V valeur) {
+        if (cle < 0 || valeur == null) {
+            throw new IllegalArgumentException("La clé doit être positive et la valeur non nulle.");
+        }
+        // La table est agrandie au-delà d'un taux de remplissage de 1/2, pour garder des sondages courts.
+        if (2 * (this.taille + 1) > this.cles.length) {
+            agrandit();
+        }
+        int masque = this.cles.length - 1;
+        int i = alveole(cle, masque);
+        while (this.cles[i] != VIDE) {
+            if (this.cles[i] == cle) {
+                V precedente = (V) this.valeurs[i];
+                this.valeurs[i] = valeur;
+                return precedente;
+            }
+            i = (i + 1) & masque;
+        }
+        this.cles[i] = cle;
+        this.valeurs[i] = valeur;
+        this.taille++;
+        return null;
+    }
+
+    /**
+     * Retire l'entrée associée à une clé.
+     * Les entrées suivantes de la même séquence de sondage sont reculées pour combler le trou,
+     * si bien qu'aucune marque de suppression ne ralentit les recherches ultérieures.
+     *
+     * @param cle La clé à retirer.
+     * @return La valeur qui était associée à la clé, ou null si elle était absente.
+     */
+    @SuppressWarnings("unchecked")
+    public V retire(int cle) {
+        int masque = this.cles.length - 1;
+        int i = alveole(cle, masque);
+        while (this.cles[i] != cle) {
+            if (this.cles[i] == VIDE) {
+                return null;
+            }
+            i = (i + 1) & masque;
+        }
+        V valeur = (V) this.valeurs[i];
+        this.taille--;
+
+        // Recule les entrées qui suivent le trou tant que leur alvéole d'origine le permet.
+        int trou = i;
+        int j = i;
+        while (true) {
+            j = (j + 1) & masque;
+            if (this.cles[j] == VIDE) {
+                break;
+            }
+            int origine = alveole(this.cles[j], masque);
+            // L'entrée j peut combler le trou si son origine n'est pas dans l'intervalle circulaire ]trou, j].
+            boolean deplacable = trou <= j ? (origine <= trou || origine > j) : (origine <= trou && origine > j);
+            if (deplacable) {
+                this.cles[trou] = this.cles[j];
+                this.valeurs[trou] = this.valeurs[j];
+                trou = j;
+            }
+        }
+        this.cles[trou] = VIDE;
+        this.valeurs[trou] = null;
+        return valeur;
+    }
+
+    /**
+     * Parcourt toutes les entrées, dans un ordre quelconque. La table ne doit pas être modifiée pendant le parcours.
+     *
+     * @param visiteur L'action appliquée à chaque entrée.
+     */
+    @SuppressWarnings("unchecked")
+    public void pourChaque(Visiteur<? super V> visiteur) {
+        for (int i = 0; i < this.cles.length; i++) {
+            if (this.cles[i] != VIDE) {
+                visiteur.visite(this.cles[i], (V) this.valeurs[i]);
+            }
+        }
+    }
+
+    /**
+     * Action appliquée à une entrée lors d'un parcours.
+     *
+     * @param <V> Le type des valeurs.
+     */
+    public interface Visiteur<V> {
+
+        /**
+         * Traite une entrée.
+         *
+         * @param cle    La clé de l'entrée.
+         * @param valeur La valeur de l'entrée.
+         */
+        void visite(int cle, V valeur);
+    }
+
+    /**
+     * Double la capacité de la table et y replace toutes les entrées.
+     */
+    private void agrandit() {
+        int[] anciennesCles = this.cles;
+        Object[] anciennesValeurs = this.valeurs;
+        this.cles = new int[anciennesCles.length * 2];
+        this.valeurs = new Object[anciennesCles.length * 2];
+        Arrays.fill(this.cles, VIDE);
+        int masque = this.cles.length - 1;
+        for (int k = 0; k < anciennesCles.length; k++) {
+            if (anciennesCles[k] != VIDE) {
+                int i = alveole(anciennesCles[k], masque);
+                while (this.cles[i] != VIDE) {
+                    i = (i + 1) & masque;
+                }
+                this.cles[i] = anciennesCles[k];
+                this.valeurs[i] = anciennesValeurs[k];
+            }
+        }
+    }
+
+    /**
+     * Calcule l'alvéole d'origine d'une clé. Le hachage multiplicatif disperse les indices
+     * de cases voisines, qui sont souvent consécutifs.
+     */
+    private static int alveole(int cle, int masque) {
+        int h = cle * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & masque;
+    }
+}
@@ -22,7 +22,7 @@ public class testAetoile {
 //        Invader invader = new Invader(gui, Color.decode("#f2ff28"));
 
         Simulateur simulateur = new Simulateur(new GUISimulator(800, 800, Color.BLACK),"cartes/carteSujet.map",null);
-        DonneesSimulation donneesSimulation = simulateur.getDonneesSimulation("cartes/carteSujet.map");
+        DonneesSimulation donneesSimulation = simulateur.getContexte().getDonnees();
         Robot robotCourant = donneesSimulation.getListeRobots().get(1);
         LinkedList<Carte.Direction> path = Astar.AStarSearch(donneesSimulation.getCarte(),robotCourant,donneesSimulation.getCarte().getCase(7,0));
         //LinkedList<Case> path = astar.AStarSearch(donneesSimulation.getCarte(),robotCourant,donneesSimulation.getCarte().getCase(7,0));
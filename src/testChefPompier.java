@@ -25,31 +25,40 @@ public class testChefPompier {
                         return;
                 }
 
-                if (!Objects.equals(args[1], "simple") && !Objects.equals(args[1], "avancee") && !Objects.equals(args[1], "reflechie")) {
+                if (!Objects.equals(args[1], "simple") && !Objects.equals(args[1], "avancee") && !Objects.equals(args[1], "reflechie")
+                        && !Objects.equals(args[1], "optimale")) {
                         System.out.println("Veuillez choisir l'attribution que vous voulez que le chef pompier adopte : ");
                         System.out.println(" - simple");
                         System.out.println(" - avancee");
                         System.out.println(" - reflechie");
+                        System.out.println(" - optimale");
                         return;
                 }
+                Astar.Moteur moteur = Astar.MOTEUR_PAR_DEFAUT;
+                if (args.length > 2) {
+                        switch (args[2]) {
+                                case "classique":
+                                        moteur = Astar.Moteur.CLASSIQUE;
+                                        break;
+                                case "indexe":
+                                        moteur = Astar.Moteur.INDEXE;
+                                        break;
+                                case "bidirectionnel":
+                                        moteur = Astar.Moteur.BIDIRECTIONNEL;
+                                        break;
+                                case "hierarchique":
+                                        moteur = Astar.Moteur.HIERARCHIQUE;
+                                        break;
+                                default:
+                                        System.out.println("Moteur de recherche inconnu (classique, indexe, bidirectionnel ou hierarchique), moteur par défaut utilisé.");
+                                        break;
+                        }
+                }
                 String filepath = args[0];
                 String attribution = args[1];
-                new Simulateur(new GUISimulator(800, 800, Color.BLACK), filepath,attribution);
-                Simulateur.getDonneesSimulation(filepath);
-                switch (attribution) {
-                        case "simple":
-                                ChefPompier.AttributionSimple(DonneesSimulation.getCarte());
-                                break;
-                        case "avancee":
-                                ChefPompier.AttributionAvancee(DonneesSimulation.getCarte());
-                                break;
-                        case "reflechie":
-                                ChefPompier.AttributionReflechie(DonneesSimulation.getCarte());
-                                break;
-                        default:
-                                System.out.println("Veuillez entrer l'une des trois attribution possible : simple, avancee ou reflechie");
-                                break;
-                }
+                Simulateur simulateur = new Simulateur(new GUISimulator(800, 800, Color.BLACK), filepath, attribution);
+                simulateur.setMoteur(moteur);
+                simulateur.attribue();
         }
 
 }
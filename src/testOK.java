@@ -12,7 +12,7 @@ import java.util.List;
 import java.util.zip.DataFormatException;
 
 import objets.Case;
-import simulation.DonneesSimulation;
+import simulation.ContexteSimulation;
 import simulation.Simulateur;
 import objets.Robot;
 import objets.Carte;
@@ -23,28 +23,28 @@ public class testOK {
     public static void main(String[] args) throws DataFormatException, FileNotFoundException {
         // crée la fenêtre graphique dans laquelle dessiner
 
-        new Simulateur(new GUISimulator(800, 800, Color.BLACK),"cartes/carteSujet.map",null);
-        Simulateur.getDonneesSimulation("cartes/carteSujet.map");
-        Robot robotCourant = DonneesSimulation.getListeRobots().get(1);
-        Simulateur.ajouteEvenement(new DebutDeplacement(0, robotCourant,Carte.Direction.NORD));
+        Simulateur simulateur = new Simulateur(new GUISimulator(800, 800, Color.BLACK),"cartes/carteSujet.map",null);
+        ContexteSimulation contexte = simulateur.getContexte();
+        Robot robotCourant = contexte.getDonnees().getListeRobots().get(1);
+        contexte.ajouteEvenement(new DebutDeplacement(0, robotCourant,Carte.Direction.NORD));
         double temps = robotCourant.tempsChangement(robotCourant.getCaseRobot());
-        Case feux=Carte.getVoisin(robotCourant.getCaseRobot(),Carte.Direction.NORD) ;
-        Simulateur.ajouteEvenement(new DebutIntervention(Math.round(temps) + 10, robotCourant, feux));
+        Case feux=contexte.getCarte().getVoisin(robotCourant.getCaseRobot(),Carte.Direction.NORD) ;
+        contexte.ajouteEvenement(new DebutIntervention(Math.round(temps) + 10, robotCourant, feux));
         temps= Math.round(temps) + 10;
         temps+=50*5+100;
-        Simulateur.ajouteEvenement(new DebutDeplacement(Math.round(temps) + 1, robotCourant,Carte.Direction.OUEST));
+        contexte.ajouteEvenement(new DebutDeplacement(Math.round(temps) + 1, robotCourant,Carte.Direction.OUEST));
         temps+=robotCourant.tempsChangement(robotCourant.getCaseRobot())+100;
-        Simulateur.ajouteEvenement(new DebutDeplacement(Math.round(temps) + 1, robotCourant,Carte.Direction.OUEST));
+        contexte.ajouteEvenement(new DebutDeplacement(Math.round(temps) + 1, robotCourant,Carte.Direction.OUEST));
         temps+=robotCourant.tempsChangement(robotCourant.getCaseRobot())+100;
-        Simulateur.ajouteEvenement(new DebutRemplissage(Math.round(temps) + 1, robotCourant));
+        contexte.ajouteEvenement(new DebutRemplissage(Math.round(temps) + 1, robotCourant));
         temps+=10*60+100;
-        Simulateur.ajouteEvenement(new DebutDeplacement(Math.round(temps) + 1, robotCourant,Carte.Direction.EST));
+        contexte.ajouteEvenement(new DebutDeplacement(Math.round(temps) + 1, robotCourant,Carte.Direction.EST));
         temps+=robotCourant.tempsChangement(robotCourant.getCaseRobot())+100;
-        Simulateur.ajouteEvenement(new DebutDeplacement(Math.round(temps) + 1, robotCourant,Carte.Direction.EST));
+        contexte.ajouteEvenement(new DebutDeplacement(Math.round(temps) + 1, robotCourant,Carte.Direction.EST));
         temps+=robotCourant.tempsChangement(robotCourant.getCaseRobot())+100;
-        Simulateur.ajouteEvenement(new DebutIntervention(Math.round(temps) + 1, robotCourant, feux));
+        contexte.ajouteEvenement(new DebutIntervention(Math.round(temps) + 1, robotCourant, feux));
         temps+=50*5+100;
-        Simulateur.ajouteEvenement(new DebutDeplacement(Math.round(temps) + 1, robotCourant,Carte.Direction.SUD));
+        contexte.ajouteEvenement(new DebutDeplacement(Math.round(temps) + 1, robotCourant,Carte.Direction.SUD));
     }
 }
 